@@ -7,6 +7,7 @@ plugins {
 	id("com.github.ben-manes.versions") version "0.49.0"
 	id("io.freefair.lombok") version "8.4"
 	id("io.sentry.jvm.gradle") version "3.14.0"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "hexlet.code"
@@ -14,6 +15,12 @@ version = "0.0.1-SNAPSHOT"
 
 application { mainClass.set("hexlet.code.AppApplication") }
 
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
 buildscript {
 	repositories {
 		mavenCentral()
@@ -24,6 +31,15 @@ repositories {
 	mavenCentral()
 }
 
+// Load test harness, see LoadTest; run with ./gradlew loadTest -PloadTestArgs="--duration=PT2M"
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 sentry {
 	includeSourceContext.set(true)
 
@@ -35,6 +51,8 @@ sentry {
 dependencies {
 	runtimeOnly("com.h2database:h2:2.1.214")
 	runtimeOnly("org.postgresql:postgresql:42.6.0")
+	runtimeOnly("io.r2dbc:r2dbc-h2:1.0.0.RELEASE")
+	runtimeOnly("org.postgresql:r2dbc-postgresql:1.0.2.RELEASE")
 
 	implementation("org.mapstruct:mapstruct:1.5.5.Final")
 	annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
@@ -43,11 +61,20 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-devtools:3.0.4")
 	implementation("org.springframework.boot:spring-boot-starter-web:3.1.0")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa:3.0.4")
+	implementation("org.springframework:spring-r2dbc:6.0.13")
+	implementation("io.r2dbc:r2dbc-pool:1.0.1.RELEASE")
 	implementation("net.datafaker:datafaker:2.0.1")
 	implementation("org.instancio:instancio-junit:3.3.0")
 	implementation("org.springframework.boot:spring-boot-starter-security:3.0.4")
 	implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server:3.1.0")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.2.0")
+	// 5.1 replaced synchronized blocks on the borrow path, which pinned virtual threads
+	implementation("com.zaxxer:HikariCP:5.1.0")
+	implementation("org.springframework.boot:spring-boot-starter-actuator:3.1.5")
+	implementation("org.springframework.boot:spring-boot-starter-aop:3.1.5")
+	implementation("org.hibernate.orm:hibernate-micrometer:6.2.13.Final")
+	implementation("net.ttddyy:datasource-proxy:1.9")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus:1.11.5")
 
 	testImplementation(platform("org.junit:junit-bom:5.10.0"))
 	testImplementation("org.junit.jupiter:junit-jupiter:5.10.0")
@@ -55,6 +82,8 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-test:3.1.0")
 	testImplementation("org.springframework.security:spring-security-test:6.0.2")
 
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.1.12")
+
 }
 
 tasks.sentryBundleSourcesJava {
@@ -70,6 +99,23 @@ checkstyle {
 	toolVersion = "10.3.3"
 }
 
+jacoco {
+	toolVersion = "0.8.11"
+}
+
+// ./gradlew jmh -Pjmh.includes=JwtBenchmark runs the matching benchmarks only
+jmh {
+	jmhVersion = "1.37"
+	includes = listOfNotNull(project.findProperty("jmh.includes") as String?)
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	// gc.alloc.rate.norm is the allocation per operation
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
 tasks.jacocoTestReport {
 	reports {
 		xml.required = true
@@ -77,6 +123,13 @@ tasks.jacocoTestReport {
 }
 
 tasks {
+	register<JavaExec>("loadTest") {
+		description = "Boots the application on H2 and measures endpoint throughput and latency."
+		group = "verification"
+		classpath = loadTest.runtimeClasspath
+		mainClass = "hexlet.code.loadtest.LoadTest"
+		args = (project.findProperty("loadTestArgs") as String? ?: "").split(" ").filter { it.isNotBlank() }
+	}
 	val stage by registering {
 		dependsOn(clean, installDist)
 	}
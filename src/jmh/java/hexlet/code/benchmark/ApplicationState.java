@@ -0,0 +1,42 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The application, started once per fork, so that benchmarks call the beans as they are wired
+ * in production, MapStruct implementations and security configuration included.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void start() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "spring.output.ansi.enabled=never",
+                        "logging.level.root=WARN",
+                        "outbox.enabled=false",
+                        "sentry.dsn=")
+                .run();
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,39 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.util.JWTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Issuing a token at login and decoding it, signature and validators included, on every request.
+ */
+@State(Scope.Thread)
+public class JwtBenchmark {
+
+    private JWTUtils jwtUtils;
+
+    private JwtDecoder jwtDecoder;
+
+    private String token;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        jwtUtils = application.getBean(JWTUtils.class);
+        jwtDecoder = application.getBean(JwtDecoder.class);
+        token = jwtUtils.generateToken("benchmark@example.com", 1L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken("benchmark@example.com", 1L);
+    }
+
+    @Benchmark
+    public Jwt decodeToken() {
+        return jwtDecoder.decode(token);
+    }
+}
@@ -0,0 +1,128 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.dto.UserCreateDTO;
+import hexlet.code.dto.UserDTO;
+import hexlet.code.mapper.JsonNullableMapper;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.UserMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+
+/**
+ * Mappings on the request path that do not reach the database.
+ */
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private static final int LABELS = 3;
+
+    private TaskMapper taskMapper;
+
+    private UserMapper userMapper;
+
+    private JsonNullableMapper jsonNullableMapper;
+
+    private Task task;
+
+    private TaskUpdateDTO taskUpdate;
+
+    private User user;
+
+    private UserCreateDTO userCreate;
+
+    private JsonNullable<String> title;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        taskMapper = application.getBean(TaskMapper.class);
+        userMapper = application.getBean(UserMapper.class);
+        jsonNullableMapper = application.getBean(JsonNullableMapper.class);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("benchmark@example.com");
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setPasswordDigest("digest");
+        user.setCreatedAt(LocalDate.now());
+
+        var taskStatus = new TaskStatus();
+        taskStatus.setId(1L);
+        taskStatus.setName("Draft");
+        taskStatus.setSlug("draft");
+
+        task = new Task();
+        task.setId(1L);
+        task.setIndex(1);
+        task.setName("Benchmark task");
+        task.setDescription("Measures the mappers");
+        task.setTaskStatus(taskStatus);
+        task.setAssignee(user);
+        task.setCreatedAt(LocalDate.now());
+        var labels = new HashSet<Label>();
+        for (var i = 1; i <= LABELS; i++) {
+            var label = new Label();
+            label.setId((long) i);
+            label.setName("label " + i);
+            labels.add(label);
+        }
+        task.setLabels(labels);
+
+        // Only fields the mapper copies without a lookup
+        taskUpdate = new TaskUpdateDTO();
+        taskUpdate.setIndex(JsonNullable.of(2));
+        taskUpdate.setTitle(JsonNullable.of("Renamed task"));
+        taskUpdate.setContent(JsonNullable.of("New description"));
+
+        userCreate = new UserCreateDTO();
+        userCreate.setEmail("new@example.com");
+        userCreate.setFirstName("New");
+        userCreate.setLastName("User");
+        userCreate.setPassword("password");
+
+        title = JsonNullable.of("title");
+    }
+
+    @Benchmark
+    public TaskDTO taskToDto() {
+        return taskMapper.map(task);
+    }
+
+    @Benchmark
+    public Task taskUpdate() {
+        taskMapper.update(taskUpdate, task);
+        return task;
+    }
+
+    @Benchmark
+    public UserDTO userToDto() {
+        return userMapper.map(user);
+    }
+
+    @Benchmark
+    public User userFromCreateDto() {
+        return userMapper.map(userCreate);
+    }
+
+    @Benchmark
+    public String jsonNullableUnwrap() {
+        return jsonNullableMapper.isPresent(title) ? jsonNullableMapper.unwrap(title) : null;
+    }
+
+    @Benchmark
+    public JsonNullable<String> jsonNullableWrap() {
+        return jsonNullableMapper.wrap("title");
+    }
+}
@@ -0,0 +1,58 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.model.Task;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Task filtering with every filter set: building the specification, and turning it into
+ * a criteria predicate the way a repository query does.
+ */
+@State(Scope.Thread)
+public class SpecificationBenchmark {
+
+    private TaskSpecification taskSpecification;
+
+    private EntityManager entityManager;
+
+    private TaskParamsDTO params;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        taskSpecification = application.getBean(TaskSpecification.class);
+        entityManager = application.getBean(EntityManagerFactory.class).createEntityManager();
+
+        params = new TaskParamsDTO();
+        params.setTitleCont("Task");
+        params.setAssigneeId(1L);
+        params.setStatus("draft");
+        params.setLabelId(1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Specification<Task> build() {
+        return taskSpecification.build(params);
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Task.class);
+        var root = query.from(Task.class);
+        return taskSpecification.build(params).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,10 @@
+package hexlet.code.loadtest;
+
+import java.util.List;
+
+/**
+ * What the workload picks request parameters from. Every user has the password {@link Seeder#PASSWORD}.
+ */
+record Dataset(List<String> emails, List<Long> userIds, List<String> statusSlugs, List<Long> labelIds,
+               List<Long> taskIds) {
+}
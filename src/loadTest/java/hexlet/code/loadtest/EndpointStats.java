@@ -0,0 +1,50 @@
+package hexlet.code.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one endpoint in microseconds, with three significant digits up to a minute.
+ */
+final class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), SIGNIFICANT_DIGITS);
+
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long startNanos, boolean success) {
+        var micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        latencies.recordValue(Math.min(micros, latencies.getHighestTrackableValue()));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void reset() {
+        latencies.reset();
+        errors.reset();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Histogram getLatencies() {
+        return latencies;
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+}
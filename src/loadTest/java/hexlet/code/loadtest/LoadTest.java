@@ -0,0 +1,118 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the application on an in-memory H2 database, seeds it and measures the throughput
+ * and latency percentiles of the main endpoints. Nothing leaves the machine.
+ * <p>
+ * Options, as {@code --name=value}: {@code duration} and {@code warmup} (ISO-8601, PT60S and PT15S),
+ * {@code concurrency} (64), {@code users} (50), {@code labels} (20), {@code tasks} (2000)
+ * and {@code report-dir} (build/reports/load-test).
+ */
+public final class LoadTest {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = parse(args);
+        var duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        var warmup = Duration.parse(options.getOrDefault("warmup", "PT15S"));
+        var concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        var reportDir = Path.of(options.getOrDefault("report-dir", "build/reports/load-test"));
+
+        // Devtools would restart the application in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (var context = new SpringApplicationBuilder(AppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "spring.output.ansi.enabled=never",
+                        "logging.level.root=WARN",
+                        "login-rate-limit.enabled=false",
+                        "sentry.dsn=")
+                .run()) {
+            var dataset = new Seeder(context).seed(
+                    Integer.parseInt(options.getOrDefault("users", "50")),
+                    Integer.parseInt(options.getOrDefault("labels", "20")),
+                    Integer.parseInt(options.getOrDefault("tasks", "2000")));
+            var port = context.getEnvironment().getRequiredProperty("local.server.port");
+
+            try (var client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build()) {
+                var workload = new Workload(client, URI.create("http://localhost:" + port), dataset);
+
+                System.out.printf("Warming up for %s with %d users%n", warmup, concurrency);
+                workload.run(concurrency, warmup);
+                System.out.printf("Measuring for %s with %d users%n", duration, concurrency);
+                workload.run(concurrency, duration);
+
+                report(workload.getStats(), duration, reportDir);
+            }
+        }
+    }
+
+    private static void report(List<EndpointStats> stats, Duration duration, Path reportDir) throws IOException {
+        var out = System.out;
+        out.printf("%n%-26s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        var seconds = duration.toMillis() / MILLIS_PER_SECOND;
+        var total = 0L;
+        for (var endpoint : stats) {
+            var latencies = endpoint.getLatencies();
+            total += latencies.getTotalCount();
+            out.printf("%-26s %9d %7d %9.1f", endpoint.getName(), latencies.getTotalCount(), endpoint.getErrors(),
+                    latencies.getTotalCount() / seconds);
+            for (var percentile : PERCENTILES) {
+                out.printf(" %9.2f", latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+            }
+            out.printf(" %9.2f%n", latencies.getMaxValue() / MICROS_PER_MILLI);
+        }
+        out.printf("%-26s %9d %7s %9.1f%n", "total", total, "", total / seconds);
+
+        // Full distributions, readable by the HdrHistogram plotter
+        Files.createDirectories(reportDir);
+        for (var endpoint : stats) {
+            var name = endpoint.getName().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+            try (var file = new PrintStream(Files.newOutputStream(reportDir.resolve(name + ".hgrm")))) {
+                endpoint.getLatencies().outputPercentileDistribution(file, MICROS_PER_MILLI);
+            }
+        }
+        out.printf("%nLatency distributions in milliseconds written to %s%n", reportDir.toAbsolutePath());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,83 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the database with a fixed, repeatable dataset, the same on every run with the same sizes.
+ */
+final class Seeder {
+
+    static final String PASSWORD = "password";
+
+    private static final int LABELS_PER_TASK = 3;
+
+    private final ApplicationContext context;
+
+    private final Random random = new Random(42);
+
+    Seeder(ApplicationContext context) {
+        this.context = context;
+    }
+
+    Dataset seed(int users, int labels, int tasks) {
+        // Hashing is slow by design, every user gets the same digest
+        var digest = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        var userList = new ArrayList<User>();
+        for (var i = 0; i < users; i++) {
+            var user = new User();
+            user.setEmail("load" + i + "@example.com");
+            user.setFirstName("Load");
+            user.setLastName("User " + i);
+            user.setPasswordDigest(digest);
+            userList.add(user);
+        }
+        context.getBean(UserRepository.class).saveAll(userList);
+
+        var labelRepository = context.getBean(LabelRepository.class);
+        for (var i = 0; i < labels; i++) {
+            var label = new Label();
+            label.setName("load label " + i);
+            labelRepository.save(label);
+        }
+        var labelList = labelRepository.findAll();
+        List<TaskStatus> statuses = context.getBean(TaskStatusRepository.class).findAll();
+
+        var taskList = new ArrayList<Task>();
+        for (var i = 0; i < tasks; i++) {
+            var task = new Task();
+            task.setName("Load task " + i);
+            task.setDescription("Seeded for the load test");
+            task.setIndex(i);
+            task.setTaskStatus(statuses.get(random.nextInt(statuses.size())));
+            task.setAssignee(userList.get(random.nextInt(userList.size())));
+            var taskLabels = new HashSet<Label>();
+            for (var j = random.nextInt(LABELS_PER_TASK); j > 0; j--) {
+                taskLabels.add(labelList.get(random.nextInt(labelList.size())));
+            }
+            task.setLabels(taskLabels);
+            taskList.add(task);
+        }
+        context.getBean(TaskRepository.class).saveAll(taskList);
+
+        return new Dataset(
+                userList.stream().map(User::getEmail).toList(),
+                userList.stream().map(User::getId).toList(),
+                statuses.stream().map(TaskStatus::getSlug).toList(),
+                labelList.stream().map(Label::getId).toList(),
+                taskList.stream().map(Task::getId).toList());
+    }
+}
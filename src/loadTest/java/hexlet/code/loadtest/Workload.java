@@ -0,0 +1,161 @@
+package hexlet.code.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Mixed read workload with some logins. Every virtual user logs in once, then sends requests
+ * back to back, each to an endpoint picked by weight.
+ * The loop is closed: a slow response delays the next request of its user, so latencies under
+ * overload are lower than an open-loop client at the same rate would see.
+ */
+final class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    private final URI baseUri;
+
+    private final Dataset dataset;
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    private final int totalWeight;
+
+    Workload(HttpClient client, URI baseUri, Dataset dataset) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+
+        add("POST /api/login", 5, (user, random) -> login(user.email()));
+        add("GET /api/tasks", 10, (user, random) -> get(user, "/api/tasks"));
+        add("GET /api/tasks?filters", 25, (user, random) -> get(user, "/api/tasks?" + filters(random)));
+        add("GET /api/tasks/{id}", 15, (user, random) -> get(user, "/api/tasks/" + pick(dataset.taskIds(), random)));
+        add("GET /api/users", 15, (user, random) -> get(user, "/api/users"));
+        add("GET /api/labels", 15, (user, random) -> get(user, "/api/labels"));
+        add("GET /api/task_statuses", 15, (user, random) -> get(user, "/api/task_statuses"));
+        totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    List<EndpointStats> getStats() {
+        return operations.stream().map(Operation::stats).toList();
+    }
+
+    /**
+     * Runs {@code concurrency} virtual users until the duration is over. The first user that fails,
+     * for example because its login was rejected, stops the others and its exception is thrown.
+     */
+    void run(int concurrency, Duration duration) throws InterruptedException, ExecutionException {
+        operations.forEach(operation -> operation.stats().reset());
+        var deadline = System.nanoTime() + duration.toNanos();
+        var users = new ArrayList<Future<Void>>(concurrency);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < concurrency; i++) {
+                var email = dataset.emails().get(i % dataset.emails().size());
+                users.add(executor.submit(() -> runUser(email, deadline)));
+            }
+            try {
+                for (var user : users) {
+                    user.get();
+                }
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    private Void runUser(String email, long deadline) throws IOException, InterruptedException {
+        var random = ThreadLocalRandom.current();
+        var login = client.send(login(email), HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException(String.format("Login of %s failed with status %d: %s",
+                    email, login.statusCode(), login.body()));
+        }
+        var user = new VirtualUser(email, login.body());
+        while (System.nanoTime() < deadline) {
+            var operation = pickOperation(random);
+            var request = operation.request().apply(user, random);
+            var start = System.nanoTime();
+            try {
+                var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                operation.stats().record(start, response.statusCode() < 400);
+            } catch (IOException e) {
+                operation.stats().record(start, false);
+            }
+        }
+        return null;
+    }
+
+    private Operation pickOperation(ThreadLocalRandom random) {
+        var value = random.nextInt(totalWeight);
+        for (var operation : operations) {
+            value -= operation.weight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    private String filters(ThreadLocalRandom random) {
+        var query = new ArrayList<String>();
+        if (random.nextBoolean()) {
+            query.add("status=" + pick(dataset.statusSlugs(), random));
+        }
+        if (random.nextBoolean()) {
+            query.add("assigneeId=" + pick(dataset.userIds(), random));
+        }
+        if (random.nextBoolean()) {
+            query.add("labelId=" + pick(dataset.labelIds(), random));
+        }
+        if (query.isEmpty() || random.nextBoolean()) {
+            query.add("titleCont=" + random.nextInt(10));
+        }
+        return String.join("&", query);
+    }
+
+    private HttpRequest login(String email) {
+        var body = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", email, Seeder.PASSWORD);
+        return HttpRequest.newBuilder(baseUri.resolve("/api/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + user.token())
+                .GET()
+                .build();
+    }
+
+    private void add(String name, int weight, BiFunction<VirtualUser, ThreadLocalRandom, HttpRequest> request) {
+        operations.add(new Operation(new EndpointStats(name), weight, request));
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private record VirtualUser(String email, String token) {
+    }
+
+    private record Operation(EndpointStats stats, int weight,
+                             BiFunction<VirtualUser, ThreadLocalRandom, HttpRequest> request) {
+    }
+}
@@ -0,0 +1,30 @@
+package hexlet.code.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class AdminAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    private final AdminProperties adminProperties;
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        var auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || trustResolver.isAnonymous(auth)) {
+            return new AuthorizationDecision(false);
+        }
+        return new AuthorizationDecision(adminProperties.getEmails().contains(auth.getName()));
+    }
+}
@@ -0,0 +1,20 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "admin")
+@Setter
+@Getter
+public class AdminProperties {
+
+    /**
+     * Users allowed to call {@code /api/admin/**}.
+     */
+    private List<String> emails = List.of();
+}
@@ -0,0 +1,103 @@
+package hexlet.code.component;
+
+import hexlet.code.model.StatusDailyRollup;
+import hexlet.code.model.TaskTransition;
+import hexlet.code.repository.StatusDailyRollupRepository;
+import hexlet.code.repository.TaskTransitionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Adds pending status transitions to the daily rollups. Each batch updates the rollups and marks
+ * its transitions aggregated in one transaction, so a transition is counted exactly once even if
+ * the aggregator fails half way.
+ */
+@Component
+public class AnalyticsAggregator {
+
+    private final TaskTransitionRepository taskTransitionRepository;
+
+    private final StatusDailyRollupRepository statusDailyRollupRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AnalyticsProperties properties;
+
+    public AnalyticsAggregator(TaskTransitionRepository taskTransitionRepository,
+                               StatusDailyRollupRepository statusDailyRollupRepository,
+                               TransactionTemplate transactionTemplate,
+                               AnalyticsProperties properties) {
+        this.taskTransitionRepository = taskTransitionRepository;
+        this.statusDailyRollupRepository = statusDailyRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.aggregate-interval:PT1M}")
+    public void aggregate() {
+        int aggregated;
+        do {
+            aggregated = Objects.requireNonNull(transactionTemplate.execute(status -> aggregateBatch()));
+        } while (aggregated >= properties.getBatchSize());
+    }
+
+    /**
+     * @return number of transitions aggregated
+     */
+    private int aggregateBatch() {
+        var transitions = taskTransitionRepository.findPending(PageRequest.of(0, properties.getBatchSize()));
+        if (transitions.isEmpty()) {
+            return 0;
+        }
+
+        var dates = transitions.stream()
+                .map(AnalyticsAggregator::toDate)
+                .collect(Collectors.toSet());
+        var rollups = new HashMap<Key, StatusDailyRollup>();
+        for (var rollup : statusDailyRollupRepository.findByRollupDateIn(dates)) {
+            rollups.put(new Key(rollup.getRollupDate(), rollup.getStatus()), rollup);
+        }
+
+        for (var transition : transitions) {
+            var date = toDate(transition);
+            if (transition.getFromStatus() != null) {
+                var rollup = getRollup(rollups, date, transition.getFromStatus());
+                rollup.setExited(rollup.getExited() + 1);
+                var duration = transition.getDurationSeconds();
+                if (duration != null) {
+                    rollup.setTimedExits(rollup.getTimedExits() + 1);
+                    rollup.setTotalSeconds(rollup.getTotalSeconds() + duration);
+                    rollup.setMaxSeconds(Math.max(rollup.getMaxSeconds(), duration));
+                }
+            }
+            if (transition.getToStatus() != null) {
+                var rollup = getRollup(rollups, date, transition.getToStatus());
+                rollup.setEntered(rollup.getEntered() + 1);
+            }
+            transition.setAggregated(true);
+        }
+
+        statusDailyRollupRepository.saveAll(rollups.values());
+        return transitions.size();
+    }
+
+    private static StatusDailyRollup getRollup(Map<Key, StatusDailyRollup> rollups, LocalDate date, String status) {
+        return rollups.computeIfAbsent(new Key(date, status), key -> new StatusDailyRollup(date, status));
+    }
+
+    private static LocalDate toDate(TaskTransition transition) {
+        return LocalDate.ofInstant(transition.getOccurredAt(), ZoneOffset.UTC);
+    }
+
+    private record Key(LocalDate date, String status) {
+    }
+}
@@ -0,0 +1,29 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "analytics")
+@Setter
+@Getter
+public class AnalyticsProperties {
+
+    /**
+     * Status transitions added to the daily rollups per transaction.
+     */
+    private int batchSize = 1000;
+
+    private Duration aggregateInterval = Duration.ofMinutes(1);
+
+    /**
+     * Days reported when the request names no range.
+     */
+    private int defaultDays = 30;
+
+    private int maxDays = 366;
+}
@@ -0,0 +1,20 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "board")
+@Setter
+@Getter
+public class BoardProperties {
+
+    /**
+     * Tasks returned per column when the request has no limit.
+     */
+    private int defaultLimit = 20;
+
+    private int maxLimit = 100;
+}
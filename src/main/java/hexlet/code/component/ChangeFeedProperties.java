@@ -0,0 +1,33 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "change-feed")
+@Setter
+@Getter
+public class ChangeFeedProperties {
+
+    /**
+     * How long changes are kept, clients that fall further behind have to resync.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Changes younger than this are held back as well. Transactions of this instance are tracked
+     * until they finish, this only covers writers in other instances and the moment between taking
+     * a sequence number and registering it, so it should exceed the longest write transaction there.
+     */
+    private Duration settleTime = Duration.ofSeconds(2);
+
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    private int defaultLimit = 500;
+
+    private int maxLimit = 1000;
+}
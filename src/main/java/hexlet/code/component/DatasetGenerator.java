@@ -0,0 +1,206 @@
+package hexlet.code.component;
+
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.service.AnalyticsService;
+import hexlet.code.service.TaskRankService;
+import hexlet.code.service.TaskStatsService;
+import hexlet.code.util.ZipfSampler;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the database with a large synthetic dataset when the application runs with the {@code seed}
+ * profile, sized by {@link SeedProperties}. Rows are written with plain JDBC batches, one transaction
+ * per batch; with PostgreSQL add {@code reWriteBatchedInserts=true} to the JDBC URL so that
+ * a batch becomes a few multi-row inserts.
+ * Generated ids are read back after each batch, relying on a single session getting ascending
+ * ids in insert order, so nothing else should write to these tables while seeding.
+ */
+@Component
+@Profile("seed")
+@AllArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    private static final String USER_SQL = "INSERT INTO users"
+            + " (email, first_name, last_name, password_digest, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String LABEL_SQL = "INSERT INTO labels (name, created_at) VALUES (?, ?)";
+
+    private static final String TASK_SQL = "INSERT INTO tasks"
+            + " (index, name, description, task_status_id, assignee_id, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String TASK_LABEL_SQL = "INSERT INTO tasks_labels (task_id, labels_id) VALUES (?, ?)";
+
+    private static final int DAYS_OF_HISTORY = 365;
+
+    private static final int PROGRESS_BATCHES = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Faker faker;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final TaskStatusRepository taskStatusRepository;
+
+    private final TaskRankService taskRankService;
+
+    private final TaskStatsService taskStatsService;
+
+    private final AnalyticsService analyticsService;
+
+    private final SeedProperties properties;
+
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Runs after the application runners, so the default task statuses exist.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        generate();
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    public void generate() {
+        var started = System.nanoTime();
+        var random = new Random(properties.getRandomSeed());
+
+        var userIds = insertUsers();
+        log.info("Inserted {} users", userIds.size());
+        var labelIds = insertLabels();
+        log.info("Inserted {} labels", labelIds.size());
+        var statusIds = taskStatusRepository.findAll().stream().map(TaskStatus::getId).toList();
+        insertTasks(userIds, labelIds, statusIds, random);
+
+        // Board order, dashboard counts and flow analytics for the new tasks
+        taskRankService.backfill();
+        taskStatsService.reconcile();
+        analyticsService.backfill();
+        log.info("Seeding done in {} s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+    }
+
+    private List<Long> insertUsers() {
+        var firstId = maxId("users") + 1;
+        // Hashing is slow by design, every generated user gets the same digest
+        var digest = passwordEncoder.encode(properties.getPassword());
+        var today = Date.valueOf(LocalDate.now());
+
+        var rows = new ArrayList<Object[]>(properties.getBatchSize());
+        for (var i = 0; i < properties.getUsers(); i++) {
+            var firstName = faker.name().firstName();
+            var lastName = faker.name().lastName();
+            // The number keeps emails unique, also across runs
+            var email = (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z.]", "")
+                    + "." + (firstId + i) + "@example.com";
+            rows.add(new Object[] {email, firstName, lastName, digest, today, today});
+            if (rows.size() == properties.getBatchSize()) {
+                insert(USER_SQL, rows);
+            }
+        }
+        insert(USER_SQL, rows);
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE id >= ? ORDER BY id", Long.class, firstId);
+    }
+
+    private List<Long> insertLabels() {
+        var firstId = maxId("labels") + 1;
+        var today = Date.valueOf(LocalDate.now());
+        var rows = new ArrayList<Object[]>(properties.getLabels());
+        for (var i = 0; i < properties.getLabels(); i++) {
+            rows.add(new Object[] {faker.lorem().word() + "-" + (firstId + i), today});
+        }
+        insert(LABEL_SQL, rows);
+        return jdbcTemplate.queryForList("SELECT id FROM labels WHERE id >= ? ORDER BY id", Long.class, firstId);
+    }
+
+    private void insertTasks(List<Long> userIds, List<Long> labelIds, List<Long> statusIds, Random random) {
+        var assignees = new ZipfSampler(userIds.size(), properties.getAssigneeSkew());
+        var labels = new ZipfSampler(labelIds.size(), properties.getLabelSkew());
+        var now = Timestamp.from(Instant.now());
+        var today = LocalDate.now();
+
+        var batch = 0;
+        var inserted = 0;
+        while (inserted < properties.getTasks()) {
+            var size = Math.min(properties.getBatchSize(), properties.getTasks() - inserted);
+            var rows = new ArrayList<Object[]>(size);
+            for (var i = 0; i < size; i++) {
+                var assigneeId = random.nextDouble() < properties.getUnassignedShare()
+                        ? null
+                        : userIds.get(assignees.sample(random));
+                rows.add(new Object[] {
+                    inserted + i,
+                    faker.lorem().sentence(3),
+                    faker.lorem().sentence(12),
+                    statusIds.get(random.nextInt(statusIds.size())),
+                    assigneeId,
+                    Date.valueOf(today.minusDays(random.nextInt(DAYS_OF_HISTORY))),
+                    now
+                });
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                var lastId = maxId("tasks");
+                jdbcTemplate.batchUpdate(TASK_SQL, rows);
+                var taskIds = jdbcTemplate.queryForList("SELECT id FROM tasks WHERE id > ? ORDER BY id LIMIT ?",
+                        Long.class, lastId, rows.size());
+
+                var links = new ArrayList<Object[]>();
+                for (var taskId : taskIds) {
+                    var taskLabels = new HashSet<Long>();
+                    for (var j = random.nextInt(properties.getMaxLabelsPerTask() + 1); j > 0; j--) {
+                        taskLabels.add(labelIds.get(labels.sample(random)));
+                    }
+                    taskLabels.forEach(labelId -> links.add(new Object[] {taskId, labelId}));
+                }
+                jdbcTemplate.batchUpdate(TASK_LABEL_SQL, links);
+            });
+
+            inserted += size;
+            if (++batch % PROGRESS_BATCHES == 0) {
+                log.info("Inserted {} of {} tasks", inserted, properties.getTasks());
+            }
+        }
+        log.info("Inserted {} tasks", inserted);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    private long maxId(String table) {
+        var max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+}
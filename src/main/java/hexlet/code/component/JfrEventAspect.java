@@ -0,0 +1,75 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.jfr.TaskMappingEvent;
+import hexlet.code.jfr.TaskOperationEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Wraps {@code TaskService} and {@code TaskMapper} calls in Flight Recorder events, so that
+ * a recording shows which task operation a slow query, GC pause or lock belongs to.
+ */
+@Aspect
+@Component
+public class JfrEventAspect {
+
+    @Around("execution(public * hexlet.code.service.TaskService.*(..))")
+    public Object recordTaskOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        var event = new TaskOperationEvent();
+        event.begin();
+        Object result = null;
+        var failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setOperation(joinPoint.getSignature().getName());
+                event.setTaskId(getTaskId(joinPoint.getArgs(), result));
+                if (result instanceof Collection<?> tasks) {
+                    event.setResultCount(tasks.size());
+                } else if (result != null) {
+                    event.setResultCount(1);
+                }
+                event.setFailed(failed);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * hexlet.code.mapper.TaskMapper.*(..))")
+    public Object recordTaskMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        var event = new TaskMappingEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                var args = joinPoint.getArgs();
+                event.setMethod(joinPoint.getSignature().getName());
+                event.setSource(args.length > 0 && args[0] != null ? args[0].getClass().getSimpleName() : null);
+                event.commit();
+            }
+        }
+    }
+
+    private static long getTaskId(Object[] args, Object result) {
+        if (result instanceof TaskDTO dto && dto.getId() != null) {
+            return dto.getId();
+        }
+        for (var arg : args) {
+            if (arg instanceof Long id) {
+                return id;
+            }
+        }
+        return 0;
+    }
+}
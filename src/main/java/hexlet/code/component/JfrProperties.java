@@ -0,0 +1,19 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "jfr")
+@Setter
+@Getter
+public class JfrProperties {
+
+    /**
+     * Whether the domain events are registered with Flight Recorder at startup,
+     * they can be switched at runtime through {@code /api/admin/jfr/events}.
+     */
+    private boolean eventsEnabled = true;
+}
@@ -0,0 +1,30 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "journal")
+@Setter
+@Getter
+public class JournalProperties {
+
+    /**
+     * Capture task history in a local journal before it is shipped to the database.
+     */
+    private boolean enabled;
+
+    /**
+     * Directory of the journal segments and the checkpoint file. It must be on a local disk
+     * and must not be shared between instances.
+     */
+    private String directory = "journal";
+
+    /**
+     * Size of one memory-mapped segment file, at most 2GB.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+}
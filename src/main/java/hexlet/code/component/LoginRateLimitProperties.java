@@ -0,0 +1,48 @@
+package hexlet.code.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "login-rate-limit")
+@Setter
+@Getter
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Limit username = new Limit(10, Duration.ofMinutes(1));
+
+    private Limit clientIp = new Limit(30, Duration.ofMinutes(1));
+
+    /**
+     * Number of cells per sketch row, rounded up to a power of two.
+     * Memory use is {@code width * depth * 8} bytes per limiter, whatever the number of keys.
+     */
+    private int width = 1 << 16;
+
+    private int depth = 4;
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Burst size: attempts allowed back to back for a single key.
+         */
+        private int capacity;
+
+        /**
+         * Time needed to refill the whole bucket.
+         */
+        private Duration refillPeriod;
+    }
+}
@@ -0,0 +1,40 @@
+package hexlet.code.component;
+
+import hexlet.code.util.TokenBucketSketch;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+@Component
+public class LoginRateLimiter {
+
+    private final LoginRateLimitProperties properties;
+
+    private final TokenBucketSketch usernameBuckets;
+
+    private final TokenBucketSketch clientIpBuckets;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties) {
+        this.properties = properties;
+        this.usernameBuckets = sketch(properties.getUsername());
+        this.clientIpBuckets = sketch(properties.getClientIp());
+    }
+
+    /**
+     * Takes one token from both the client address bucket and the username bucket.
+     * Called before any password check, so a rejected attempt never reaches BCrypt.
+     */
+    public boolean tryAcquire(String username, String clientIp) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        var normalizedUsername = username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+        return clientIpBuckets.tryAcquire(clientIp == null ? "" : clientIp)
+                && usernameBuckets.tryAcquire(normalizedUsername);
+    }
+
+    private TokenBucketSketch sketch(LoginRateLimitProperties.Limit limit) {
+        return new TokenBucketSketch(limit.getCapacity(), limit.getRefillPeriod(),
+                properties.getWidth(), properties.getDepth());
+    }
+}
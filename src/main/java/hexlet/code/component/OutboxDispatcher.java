@@ -0,0 +1,270 @@
+package hexlet.code.component;
+
+import hexlet.code.event.DomainEvent;
+import hexlet.code.event.DomainEventSubscriber;
+import hexlet.code.model.OutboxDeadLetter;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.repository.OutboxDeadLetterRepository;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.util.RingBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drains the outbox in batches into a ring buffer that feeds every {@link DomainEventSubscriber}.
+ * Rows are deleted only after all subscribers have processed them, so delivery is at least once;
+ * a row some subscribers failed on remembers the others, and only the failed ones get it again.
+ * A batch is claimed in a short transaction that skips rows other instances have locked, so
+ * instances share the outbox without delivering the same batch twice.
+ * While the slowest subscriber is a full ring behind, reading pauses and events wait in the outbox,
+ * the transactions writing them are never held up.
+ * An event still failing after {@code outbox.max-deliveries} passes is moved to {@code outbox_dead_letters};
+ * their number is the {@code outbox.dead_letters} gauge.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher implements DisposableBean {
+
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxDeadLetterRepository deadLetterRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OutboxProperties properties;
+
+    private final RingBuffer<DomainEvent> ringBuffer;
+
+    private final List<String> subscriberNames = new ArrayList<>();
+
+    // Subscribers that failed on an event of the current batch, by event id
+    private final Map<Long, Set<String>> failures = new ConcurrentHashMap<>();
+
+    // Subscribers that processed an event of the current batch on an earlier pass, by event id
+    private volatile Map<Long, Set<String>> delivered = Map.of();
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxDeadLetterRepository deadLetterRepository,
+                            TransactionTemplate transactionTemplate,
+                            OutboxProperties properties,
+                            List<DomainEventSubscriber> subscribers,
+                            MeterRegistry registry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        var handlers = new ArrayList<RingBuffer.Handler<DomainEvent>>();
+        for (var subscriber : subscribers) {
+            var name = ClassUtils.getUserClass(subscriber).getSimpleName();
+            subscriberNames.add(name);
+            handlers.add((event, sequence) -> deliver(name, subscriber, event));
+        }
+        this.ringBuffer = new RingBuffer<>(properties.getRingBufferSize(), handlers,
+                new CustomizableThreadFactory("outbox-subscriber-"));
+        this.thread = new CustomizableThreadFactory("outbox-dispatcher-").newThread(this::run);
+
+        Gauge.builder("outbox.dead_letters", deadLetterRepository, OutboxDeadLetterRepository::count)
+                .description("Outbox events moved out after their last delivery pass failed")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isEnabled() && !running) {
+            running = true;
+            ringBuffer.start();
+            thread.start();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        thread.interrupt();
+        ringBuffer.stop();
+    }
+
+    /**
+     * Hands one batch to the subscribers and waits until all of them are done with it.
+     *
+     * @return number of events read from the outbox
+     */
+    public int dispatchBatch() throws InterruptedException {
+        var batch = claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        var previous = new HashMap<Long, Set<String>>();
+        for (var row : batch) {
+            var names = parseNames(row.getDeliveredTo());
+            if (!names.isEmpty()) {
+                previous.put(row.getId(), names);
+            }
+        }
+        delivered = previous;
+        for (var row : batch) {
+            ringBuffer.publish(new DomainEvent(row.getId(), row.getAggregateType(), row.getAggregateId(),
+                    row.getEventType(), row.getPayload(), row.getCreatedAt()));
+        }
+        ringBuffer.awaitConsumed(ringBuffer.getPublishedSequence());
+
+        var done = new ArrayList<Long>();
+        var failed = new ArrayList<OutboxEvent>();
+        var deadLetters = new ArrayList<OutboxDeadLetter>();
+        var now = Instant.now();
+        for (var row : batch) {
+            var failedSubscribers = failures.remove(row.getId());
+            if (failedSubscribers == null) {
+                done.add(row.getId());
+                continue;
+            }
+            if (row.getAttempts() + 1 >= properties.getMaxDeliveries()) {
+                done.add(row.getId());
+                deadLetters.add(toDeadLetter(row, failedSubscribers));
+                continue;
+            }
+            var names = new TreeSet<>(parseNames(row.getDeliveredTo()));
+            subscriberNames.stream()
+                    .filter(name -> !failedSubscribers.contains(name))
+                    .forEach(names::add);
+            var shift = Math.min(row.getAttempts(), MAX_BACKOFF_SHIFT);
+            row.setDeliveredTo(String.join(",", names));
+            row.setAttempts(row.getAttempts() + 1);
+            row.setAvailableAt(now.plus(properties.getRedeliveryDelay().multipliedBy(1L << shift)));
+            failed.add(row);
+        }
+        delivered = Map.of();
+
+        if (!deadLetters.isEmpty()) {
+            // Saved with the delete, so an event is never in both tables or in neither
+            transactionTemplate.executeWithoutResult(status -> {
+                deadLetterRepository.saveAll(deadLetters);
+                outboxEventRepository.deleteByIds(done);
+            });
+            deadLetters.forEach(deadLetter -> log.warn(
+                    "Outbox event {} ({} of {} {}) failed {} passes, moved to dead letters; failed subscribers: {}",
+                    deadLetter.getEventId(), deadLetter.getEventType(), deadLetter.getAggregateType(),
+                    deadLetter.getAggregateId(), deadLetter.getAttempts(), deadLetter.getFailedSubscribers()));
+        } else if (!done.isEmpty()) {
+            outboxEventRepository.deleteByIds(done);
+        }
+        if (!failed.isEmpty()) {
+            outboxEventRepository.saveAll(failed);
+        }
+
+        return batch.size();
+    }
+
+    private static OutboxDeadLetter toDeadLetter(OutboxEvent row, Set<String> failedSubscribers) {
+        var deadLetter = new OutboxDeadLetter();
+        deadLetter.setEventId(row.getId());
+        deadLetter.setAggregateType(row.getAggregateType());
+        deadLetter.setAggregateId(row.getAggregateId());
+        deadLetter.setEventType(row.getEventType());
+        deadLetter.setPayload(row.getPayload());
+        deadLetter.setAttempts(row.getAttempts() + 1);
+        deadLetter.setFailedSubscribers(String.join(",", new TreeSet<>(failedSubscribers)));
+        deadLetter.setOccurredAt(row.getCreatedAt());
+        return deadLetter;
+    }
+
+    /**
+     * Reads ready rows and moves them past the claim timeout in one short transaction.
+     */
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            var now = Instant.now();
+            var rows = outboxEventRepository.findReady(now, PageRequest.of(0, properties.getBatchSize()));
+            var claimedUntil = now.plus(properties.getClaimTimeout());
+            rows.forEach(row -> row.setAvailableAt(claimedUntil));
+            return rows;
+        });
+    }
+
+    private static Set<String> parseNames(String names) {
+        return names == null || names.isEmpty() ? Set.of() : Set.copyOf(Arrays.asList(names.split(",")));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (dispatchBatch() < properties.getBatchSize()) {
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // the database is unavailable, the outbox keeps the events until it is back
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void deliver(String name, DomainEventSubscriber subscriber, DomainEvent event) {
+        if (delivered.getOrDefault(event.getId(), Set.of()).contains(name)) {
+            return;
+        }
+        for (var attempt = 1; attempt <= properties.getMaxAttempts(); attempt++) {
+            try {
+                subscriber.onEvent(event);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                if (attempt < properties.getMaxAttempts() && !backOff(attempt)) {
+                    break;
+                }
+            }
+        }
+        failures.computeIfAbsent(event.getId(), id -> ConcurrentHashMap.newKeySet()).add(name);
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(properties.getRetryBackoff().toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@Setter
+@Getter
+public class OutboxProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Outbox rows read and handed to the ring buffer at a time.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Slots in the ring buffer, a power of two. Reading stops while the slowest subscriber
+     * is this many events behind.
+     */
+    private int ringBufferSize = 4096;
+
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Attempts per subscriber and event before the event is left in the outbox for a later pass.
+     */
+    private int maxAttempts = 3;
+
+    private Duration retryBackoff = Duration.ofMillis(100);
+
+    /**
+     * Passes over a failing event, after the last one it is moved to the dead letters.
+     */
+    private int maxDeliveries = 10;
+
+    private Duration redeliveryDelay = Duration.ofSeconds(30);
+
+    /**
+     * How long a batch read by one instance is hidden from the others, longer than its delivery takes.
+     * Events of an instance that stopped midway are read again after it.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+}
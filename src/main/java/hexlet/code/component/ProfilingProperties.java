@@ -0,0 +1,54 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "profiling")
+@Setter
+@Getter
+public class ProfilingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Interval between CPU samples of each running thread, JFR's default recording uses 20 ms.
+     */
+    private Duration cpuSamplePeriod = Duration.ofMillis(20);
+
+    /**
+     * Upper bound on allocation samples, spread over all threads.
+     */
+    private int allocationSamplesPerSecond = 100;
+
+    /**
+     * Length of a profile window.
+     */
+    private Duration window = Duration.ofMinutes(1);
+
+    /**
+     * Number of windows kept in memory, older ones are dropped.
+     */
+    private int windows = 5;
+
+    /**
+     * Frames kept from the top of each stack.
+     */
+    private int maxStackDepth = 48;
+
+    /**
+     * Distinct method names kept, shared by all windows. Further methods show up as {@code [other frame]}.
+     */
+    private int maxFrames = 20_000;
+
+    /**
+     * Estimated memory for the stacks of one window, both profile types together. Stacks first seen
+     * after that are counted as {@code [other]}.
+     */
+    private DataSize maxWindowSize = DataSize.ofMegabytes(2);
+}
@@ -0,0 +1,24 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "reactive.r2dbc")
+@Setter
+@Getter
+public class ReactiveDatabaseProperties {
+
+    /**
+     * R2DBC url of the same database the JPA data source points to.
+     */
+    private String url;
+
+    private String username;
+
+    private String password = "";
+
+    private int poolSize = 10;
+}
@@ -0,0 +1,56 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "seed")
+@Setter
+@Getter
+public class SeedProperties {
+
+    private int users = 100_000;
+
+    private int labels = 200;
+
+    private int tasks = 1_000_000;
+
+    private int maxLabelsPerTask = 3;
+
+    /**
+     * Share of tasks without an assignee, from 0 to 1.
+     */
+    private double unassignedShare = 0.1;
+
+    /**
+     * Zipf exponent of assignee popularity, 0 spreads tasks evenly, around 1 gives a few very busy users.
+     */
+    private double assigneeSkew = 1.0;
+
+    /**
+     * Zipf exponent of label popularity.
+     */
+    private double labelSkew = 1.2;
+
+    /**
+     * Rows per JDBC batch and per transaction.
+     */
+    private int batchSize = 5_000;
+
+    /**
+     * Password of every generated user, hashed once.
+     */
+    private String password = "password";
+
+    /**
+     * Seed of the random choices, the same seed and sizes give the same links between rows.
+     */
+    private long randomSeed = 42;
+
+    /**
+     * Stops the application when seeding is done.
+     */
+    private boolean exitWhenDone = true;
+}
@@ -0,0 +1,121 @@
+package hexlet.code.component;
+
+import hexlet.code.util.AdaptiveSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sentry.Hint;
+import io.sentry.SentryOptions;
+import io.sentry.SpanStatus;
+import io.sentry.protocol.SentryTransaction;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Decides which finished transactions are sent to Sentry. Server errors and slow transactions
+ * are always sent, the others are sampled by endpoint with an {@link AdaptiveSampler}, so the
+ * number sent per second stays within the budget at any request rate.
+ * Decisions are counted in {@code sentry.transactions}, tagged with the endpoint and the decision.
+ * Only the routes of the controllers are used as endpoints, as {@code "GET /api/tasks/{id}"};
+ * requests that matched none of them, such as scans for random paths, all count as {@code other}.
+ */
+@Component
+public class SentryTransactionSampler implements SentryOptions.BeforeSendTransactionCallback {
+
+    private static final Set<SpanStatus> SERVER_ERRORS = EnumSet.of(
+            SpanStatus.UNKNOWN,
+            SpanStatus.UNKNOWN_ERROR,
+            SpanStatus.INTERNAL_ERROR,
+            SpanStatus.UNIMPLEMENTED,
+            SpanStatus.UNAVAILABLE,
+            SpanStatus.DEADLINE_EXCEEDED,
+            SpanStatus.DATA_LOSS);
+
+    private static final String UNNAMED = "unnamed";
+
+    private static final String OTHER = "other";
+
+    private final AdaptiveSampler sampler;
+
+    private final double slowSeconds;
+
+    private final MeterRegistry registry;
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+
+    // Loaded on first use, the handler mapping is not ready yet when Sentry is configured
+    private volatile Set<String> routes;
+
+    public SentryTransactionSampler(TraceSamplingProperties properties, MeterRegistry registry,
+                                    @Qualifier("requestMappingHandlerMapping")
+                                    ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.sampler = new AdaptiveSampler(properties.getBudgetPerSecond());
+        this.slowSeconds = properties.getSlowThreshold().toMillis() / 1000.0;
+        this.registry = registry;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public SentryTransaction execute(SentryTransaction transaction, Hint hint) {
+        var endpoint = getEndpoint(transaction.getTransaction());
+        var decision = decide(transaction, endpoint);
+        registry.counter("sentry.transactions", "endpoint", endpoint, "decision", decision.name().toLowerCase())
+                .increment();
+        return decision == Decision.DROPPED ? null : transaction;
+    }
+
+    private String getEndpoint(String name) {
+        if (name == null) {
+            return UNNAMED;
+        }
+        return getRoutes().contains(name) ? name : OTHER;
+    }
+
+    /**
+     * Names the way Sentry names transactions of matched requests: the method and the path pattern.
+     */
+    private Set<String> getRoutes() {
+        var result = routes;
+        if (result != null) {
+            return result;
+        }
+        var mapping = handlerMapping.getIfAvailable();
+        if (mapping == null) {
+            return Set.of();
+        }
+
+        var names = new HashSet<String>();
+        mapping.getHandlerMethods().keySet().forEach(info -> {
+            var methods = info.getMethodsCondition().getMethods();
+            for (var method : methods.isEmpty() ? EnumSet.allOf(RequestMethod.class) : methods) {
+                info.getPatternValues().forEach(pattern -> names.add(method.name() + " " + pattern));
+            }
+        });
+        result = Set.copyOf(names);
+        routes = result;
+        return result;
+    }
+
+    private Decision decide(SentryTransaction transaction, String endpoint) {
+        if (SERVER_ERRORS.contains(transaction.getStatus())) {
+            return Decision.ERROR;
+        }
+        var end = transaction.getTimestamp();
+        if (end != null && end - transaction.getStartTimestamp() >= slowSeconds) {
+            return Decision.SLOW;
+        }
+        return sampler.sample(endpoint) ? Decision.SAMPLED : Decision.DROPPED;
+    }
+
+    private enum Decision {
+        ERROR,
+        SLOW,
+        SAMPLED,
+        DROPPED
+    }
+}
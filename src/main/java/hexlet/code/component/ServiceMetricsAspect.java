@@ -0,0 +1,65 @@
+package hexlet.code.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the {@code *Service} beans as {@code service.method}, tagged with
+ * the class, the method and the exception thrown, with a percentile histogram for the scrape endpoint.
+ * Reactive services are left out, their methods only assemble the pipeline; the HTTP server
+ * timers cover those requests end to end.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private static final String METRIC = "service.method";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+
+    // Looking a timer up in the registry builds its id every time, successful calls reuse this one
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * hexlet.code.service.*Service.*(..))"
+            + " && !within(hexlet.code.service.Reactive*)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var start = System.nanoTime();
+        try {
+            var result = joinPoint.proceed();
+            timers.computeIfAbsent(method, key -> timer(joinPoint, NO_EXCEPTION))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(joinPoint, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(METRIC)
+                .description("Time spent in service methods")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "sql-logging")
+@Setter
+@Getter
+public class SqlLoggingProperties {
+
+    /**
+     * Whether the data source is wrapped at all, read at startup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements at least this long are logged as warnings, with the shapes of their parameters.
+     */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * Share of the other statements logged, from 0 to 1.
+     */
+    private double sampleRate = 0.0;
+
+    /**
+     * Distinct statement fingerprints counted, further statements are counted as {@code [other]}.
+     */
+    private int maxFingerprints = 2_000;
+}
@@ -0,0 +1,190 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.SqlStatementStatsDTO;
+import hexlet.code.util.SqlFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listens to every statement run through the data source. Statements are counted per fingerprint
+ * with their latency; slow ones are logged as warnings and a sample of the others at info level,
+ * both to the {@code hexlet.code.sql} logger. Logs show the shapes of the bind parameters,
+ * such as {@code String(12)}, never their values.
+ */
+@Component
+@Slf4j(topic = "hexlet.code.sql")
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    private static final String OTHER_STATEMENTS = "[other]";
+
+    private static final int MAX_LOGGED_ROWS = 3;
+
+    private static final int MAX_LOGGED_STATEMENTS = 3;
+
+    private final SqlLoggingProperties properties;
+
+    private final Map<String, Stats> statements = new ConcurrentHashMap<>();
+
+    // Hibernate and Spring Data reuse their SQL strings, so most lookups skip the regular expressions
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    public SqlStatementRecorder(SqlLoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var elapsed = execInfo.getElapsedTime();
+        var slow = elapsed >= properties.getSlowThreshold().toMillis();
+        var sampled = !slow && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+
+        // A statement batch runs several statements in one execution, its time is split between them
+        var share = queryInfoList.isEmpty() ? 0 : elapsed / queryInfoList.size();
+        var remainder = elapsed - share * queryInfoList.size();
+        var logged = new StringJoiner(" | ");
+        for (var i = 0; i < queryInfoList.size(); i++) {
+            var query = queryInfoList.get(i);
+            var fingerprint = getFingerprint(query.getQuery());
+            stats(fingerprint).add(share + remainder, execInfo.isSuccess());
+            remainder = 0;
+
+            if ((slow || sampled) && i < MAX_LOGGED_STATEMENTS) {
+                logged.add("params=" + shapes(query) + " sql=" + fingerprint);
+            }
+        }
+        if (queryInfoList.size() > MAX_LOGGED_STATEMENTS) {
+            logged.add("...");
+        }
+
+        // Once per execution, a batch of many statements is a single line
+        if (slow) {
+            log.warn("slow statement elapsed_ms={} success={} batch_size={} statements={} {}", elapsed,
+                    execInfo.isSuccess(), execInfo.getBatchSize(), queryInfoList.size(), logged);
+        } else if (sampled) {
+            log.info("statement elapsed_ms={} success={} batch_size={} statements={} {}", elapsed,
+                    execInfo.isSuccess(), execInfo.getBatchSize(), queryInfoList.size(), logged);
+        }
+    }
+
+    /**
+     * Returns the statements with the most total time first.
+     */
+    public List<SqlStatementStatsDTO> getStatements(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(Comparator.comparingLong(SqlStatementStatsDTO::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    /**
+     * Once the cache is full, new strings are fingerprinted on every call instead of evicting
+     * the cached ones, which are the statements the application keeps running.
+     */
+    private String getFingerprint(String sql) {
+        var fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            if (fingerprints.size() < properties.getMaxFingerprints()) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    private Stats stats(String fingerprint) {
+        var stats = statements.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        var key = statements.size() < properties.getMaxFingerprints() ? fingerprint : OTHER_STATEMENTS;
+        return statements.computeIfAbsent(key, k -> new Stats());
+    }
+
+    /**
+     * Returns the parameter shapes of the first rows of a batch, for example {@code [Long, String(12), null]}.
+     */
+    private static String shapes(QueryInfo query) {
+        var rows = new StringJoiner(" ");
+        var parametersList = query.getParametersList();
+        for (var parameters : parametersList.subList(0, Math.min(parametersList.size(), MAX_LOGGED_ROWS))) {
+            var row = new StringJoiner(", ", "[", "]");
+            parameters.stream()
+                    .sorted(Comparator.comparingInt(SqlStatementRecorder::parameterIndex))
+                    .forEach(parameter -> row.add(shape(parameter)));
+            rows.add(row.toString());
+        }
+        if (parametersList.size() > MAX_LOGGED_ROWS) {
+            rows.add("...");
+        }
+        return rows.toString();
+    }
+
+    private static int parameterIndex(ParameterSetOperation parameter) {
+        return parameter.getArgs()[0] instanceof Integer index ? index : 0;
+    }
+
+    private static String shape(ParameterSetOperation parameter) {
+        var args = parameter.getArgs();
+        if ("setNull".equals(parameter.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        var value = args[1];
+        var type = value.getClass().getSimpleName();
+        if (value instanceof CharSequence text) {
+            return type + "(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return type + "(" + bytes.length + ")";
+        }
+        return type;
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder totalMillis = new LongAdder();
+
+        private final LongAccumulator maxMillis = new LongAccumulator(Long::max, 0);
+
+        private void add(long millis, boolean success) {
+            count.increment();
+            if (!success) {
+                errors.increment();
+            }
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+        }
+
+        private SqlStatementStatsDTO toDTO(String fingerprint) {
+            var calls = count.sum();
+            var total = totalMillis.sum();
+            return new SqlStatementStatsDTO(fingerprint, calls, errors.sum(), total,
+                    calls == 0 ? 0 : (double) total / calls, maxMillis.get());
+        }
+    }
+}
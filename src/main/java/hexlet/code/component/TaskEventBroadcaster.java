@@ -0,0 +1,166 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.event.TaskEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans task events out to Server-Sent Events subscribers.
+ * Idle subscribers hold no thread. Publishers only filter and enqueue, a small shared pool
+ * writes to the connections, and a subscriber whose buffer overflows is disconnected
+ * instead of slowing everyone else down.
+ */
+@Component
+public class TaskEventBroadcaster implements DisposableBean {
+
+    private static final Message HEARTBEAT = new Message(null, null);
+
+    private final TaskStreamProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService dispatcher;
+
+    public TaskEventBroadcaster(TaskStreamProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dispatcher = Executors.newFixedThreadPool(properties.getDispatchThreads(),
+                new CustomizableThreadFactory("task-stream-"));
+    }
+
+    public SseEmitter subscribe(TaskParamsDTO params) {
+        var emitter = new SseEmitter(properties.getTimeout().toMillis());
+        var subscriber = new Subscriber(emitter, params, new ArrayBlockingQueue<>(properties.getQueueCapacity()));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.getTask());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        var message = new Message(event.getType().name().toLowerCase(), data);
+        for (var subscriber : subscribers) {
+            if (event.matches(subscriber.params)) {
+                enqueue(subscriber, message);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task-stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT));
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void enqueue(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            // Completing here could wait on a write in progress, leave it to the dispatcher
+            subscriber.overflowed = true;
+            subscribers.remove(subscriber);
+        }
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            for (var message = subscriber.queue.poll(); message != null; message = subscriber.queue.poll()) {
+                if (subscriber.overflowed) {
+                    break;
+                }
+                subscriber.emitter.send(message.toEvent());
+            }
+            if (subscriber.overflowed) {
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away, the container completes the emitter
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        // An enqueue may have lost the race with the flag reset above
+        if (!subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final TaskParamsDTO params;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private Subscriber(SseEmitter emitter, TaskParamsDTO params, BlockingQueue<Message> queue) {
+            this.emitter = emitter;
+            this.params = params;
+            this.queue = queue;
+        }
+    }
+
+    private static final class Message {
+        private final String name;
+        private final String data;
+
+        private Message(String name, String data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
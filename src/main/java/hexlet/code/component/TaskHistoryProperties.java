@@ -0,0 +1,40 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-history")
+@Setter
+@Getter
+public class TaskHistoryProperties {
+
+    /**
+     * Entries waiting for the writer. When it is full, the request thread writes its entries itself.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Rows inserted per JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long the writer waits for new entries, and before retrying a failed batch.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Attempts at a batch the database failed to take for a transient reason, with the wait doubling
+     * from the flush interval. After that the queued batch is dropped, or re-read later from the journal.
+     */
+    private int maxAttempts = 5;
+
+    private int defaultPageSize = 20;
+
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,281 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.event.TaskHistoryEvent;
+import hexlet.code.model.TaskHistoryEntry;
+import hexlet.code.util.Journal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes task history off the request path. Entries of committed transactions are queued
+ * and a single thread inserts them in JDBC batches. When the queue is full the publishing
+ * thread inserts its own entries, so history is slowed down rather than lost.
+ * With the {@link Journal} enabled, entries are appended to it instead of the queue and the thread
+ * ships them from there, so they also survive a restart before they reach the database.
+ */
+@Component
+@Slf4j
+public class TaskHistoryWriter implements DisposableBean {
+
+    private static final int MAX_BACKOFF_SHIFT = 6;
+
+    private static final String INSERT_SQL = "INSERT INTO task_history"
+            + " (task_id, field_name, old_value, new_value, author, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TaskHistoryProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final Journal journal;
+
+    private final BlockingQueue<TaskHistoryEntry> queue;
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    public TaskHistoryWriter(JdbcTemplate jdbcTemplate, TaskHistoryProperties properties,
+                             ObjectMapper objectMapper, Optional<Journal> journal) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.journal = journal.orElse(null);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.thread = new CustomizableThreadFactory("task-history-")
+                .newThread(this.journal == null ? this::run : this::ship);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!running) {
+            running = true;
+            thread.start();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskHistory(TaskHistoryEvent event) {
+        if (journal != null) {
+            for (var entry : event.getEntries()) {
+                journal.append(serialize(entry));
+            }
+            return;
+        }
+
+        var overflow = new ArrayList<TaskHistoryEntry>();
+        for (var entry : event.getEntries()) {
+            if (!queue.offer(entry)) {
+                overflow.add(entry);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            write(overflow);
+        }
+    }
+
+    /**
+     * Number of entries not yet written.
+     */
+    public long getPendingCount() {
+        return journal == null ? queue.size() : journal.getLastSequence() - journal.getCheckpoint();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(properties.getFlushInterval().toMillis());
+
+        // The journal keeps its entries for the next start
+        var remaining = new ArrayList<TaskHistoryEntry>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    private void run() {
+        var batch = new ArrayList<TaskHistoryEntry>(properties.getBatchSize());
+        while (running) {
+            try {
+                var first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                // Dropped when the retries run out, the queue has no place to keep it
+                writeWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // destroy() writes what is left in the queue
+                batch.forEach(queue::offer);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Dropping {} task history entries that could not be written", batch.size(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Replays the journal from the checkpoint. An entry written to the database just before a crash
+     * may be written again on the next start. Failures are logged and the loop goes on: a record
+     * that cannot be parsed is skipped, a segment that cannot be read is set aside.
+     */
+    private void ship() {
+        var reader = journal.reader();
+        while (running) {
+            try {
+                var records = read(reader);
+                if (records.isEmpty()) {
+                    Thread.sleep(properties.getFlushInterval().toMillis());
+                    continue;
+                }
+                var batch = new ArrayList<TaskHistoryEntry>(records.size());
+                for (var record : records) {
+                    var entry = deserialize(record);
+                    if (entry != null) {
+                        batch.add(entry);
+                    }
+                }
+                if (!writeWithRetry(batch)) {
+                    // The records stay in the journal, read them again after a pause
+                    reader = journal.reader();
+                    Thread.sleep(properties.getFlushInterval().toMillis());
+                    continue;
+                }
+                checkpoint(records.get(records.size() - 1).sequence());
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Shipping task history failed", e);
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<Journal.Entry> read(Journal.Reader reader) {
+        try {
+            return reader.read(properties.getBatchSize());
+        } catch (IllegalStateException e) {
+            try {
+                var next = reader.skipSegment();
+                log.error("Task history journal is damaged, set the segment aside and continued at record {}",
+                        next, e);
+            } catch (IOException skipFailure) {
+                skipFailure.addSuppressed(e);
+                log.error("Task history journal is damaged and the segment could not be set aside", skipFailure);
+            }
+            return List.of();
+        }
+    }
+
+    private TaskHistoryEntry deserialize(Journal.Entry record) {
+        try {
+            return objectMapper.readValue(record.payload(), TaskHistoryEntry.class);
+        } catch (IOException e) {
+            log.error("Skipping task history journal record {} that cannot be parsed", record.sequence(), e);
+            return null;
+        }
+    }
+
+    private void checkpoint(long sequence) {
+        try {
+            journal.checkpoint(sequence);
+        } catch (IOException e) {
+            // The reader goes on, a later checkpoint covers these records
+            log.warn("Could not store the task history journal checkpoint {}", sequence, e);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getFlushInterval().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Retries a batch the database failed to take for a transient reason, a limited number of times;
+     * a lost connection counts as transient. A batch it rejects is written entry by entry, so that
+     * only the rejected entries are dropped.
+     *
+     * @return {@code false} when the retries ran out
+     */
+    private boolean writeWithRetry(List<TaskHistoryEntry> batch) throws InterruptedException {
+        var attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                write(batch);
+                return true;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    log.error("Could not write {} task history entries in {} attempts", batch.size(), attempt, e);
+                    return false;
+                }
+                Thread.sleep(properties.getFlushInterval().toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+            } catch (DataAccessException e) {
+                if (batch.size() == 1) {
+                    var entry = batch.get(0);
+                    log.error("Dropping task history entry for task {}, field {}, rejected by the database",
+                            entry.getTaskId(), entry.getFieldName(), e);
+                    return true;
+                }
+                var written = true;
+                for (var entry : batch) {
+                    written &= writeWithRetry(List.of(entry));
+                }
+                return written;
+            }
+        }
+    }
+
+    private void write(List<TaskHistoryEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, properties.getBatchSize(), (statement, entry) -> {
+            statement.setLong(1, entry.getTaskId());
+            statement.setString(2, entry.getFieldName());
+            statement.setString(3, entry.getOldValue());
+            statement.setString(4, entry.getNewValue());
+            statement.setString(5, entry.getAuthor());
+            statement.setTimestamp(6, Timestamp.from(entry.getCreatedAt()));
+        });
+    }
+
+    private byte[] serialize(TaskHistoryEntry entry) {
+        try {
+            return objectMapper.writeValueAsBytes(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
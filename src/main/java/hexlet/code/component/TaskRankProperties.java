@@ -0,0 +1,27 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-rank")
+@Setter
+@Getter
+public class TaskRankProperties {
+
+    /**
+     * Locks shared by the status columns, moves within columns on different locks run in parallel.
+     */
+    private int lockStripes = 64;
+
+    /**
+     * Columns with a longer rank key are given short keys again by the rebalancing job.
+     */
+    private int maxKeyLength = 12;
+
+    private Duration rebalanceInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,21 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-stats")
+@Setter
+@Getter
+public class TaskStatsProperties {
+
+    /**
+     * How often the counters are recounted from the database, which corrects changes made
+     * by other instances or outside of the task service.
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+}
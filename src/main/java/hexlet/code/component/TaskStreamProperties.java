@@ -0,0 +1,29 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-stream")
+@Setter
+@Getter
+public class TaskStreamProperties {
+
+    /**
+     * Events buffered per subscriber, a subscriber that falls further behind is disconnected.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Threads writing buffered events to subscribers.
+     */
+    private int dispatchThreads = 4;
+
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
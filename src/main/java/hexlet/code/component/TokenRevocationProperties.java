@@ -0,0 +1,27 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "token-revocation")
+@Setter
+@Getter
+public class TokenRevocationProperties {
+
+    /**
+     * Revoked, not yet expired tokens the Bloom filter is sized for.
+     */
+    private long expectedInsertions = 100_000;
+
+    private double falsePositiveProbability = 0.001;
+
+    /**
+     * How often the filter is rebuilt from the database.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+}
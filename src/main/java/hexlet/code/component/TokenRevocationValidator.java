@@ -0,0 +1,27 @@
+package hexlet.code.component;
+
+import hexlet.code.service.TokenRevocationService;
+import lombok.AllArgsConstructor;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class TokenRevocationValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+            "Token has been revoked", null);
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt token) {
+        return tokenRevocationService.isRevoked(token.getId())
+                ? OAuth2TokenValidatorResult.failure(REVOKED)
+                : OAuth2TokenValidatorResult.success();
+    }
+}
@@ -0,0 +1,25 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "trace-sampling")
+@Setter
+@Getter
+public class TraceSamplingProperties {
+
+    /**
+     * Ordinary transactions sent to Sentry per second, split between the endpoints.
+     */
+    private int budgetPerSecond = 10;
+
+    /**
+     * Transactions at least this long are always sent.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,100 @@
+package hexlet.code.component;
+
+import hexlet.code.event.UserChangedEvent;
+import hexlet.code.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Id to email lookup used by ownership checks. Entries are loaded with a single-column query
+ * on first use and kept up to date by {@link hexlet.code.service.UserService} once its writes commit.
+ * A load that overlaps a change is returned but not cached, as in {@link UserPrincipalCache}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEmailCache implements MeterBinder {
+
+    private static final int MAX_SIZE = 100_000;
+
+    private final Map<Long, String> emails = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    // Bumped by every change while holding the entry, loads check it the same way before caching
+    private final AtomicLong generation = new AtomicLong();
+
+    private final UserRepository userRepository;
+
+    /**
+     * Returns the email of the user, or {@code null} when there is no such user.
+     */
+    public String getEmail(Long id) {
+        var email = emails.get(id);
+        if (email != null) {
+            hits.increment();
+            return email;
+        }
+        misses.increment();
+
+        var loadedIn = generation.get();
+        var loaded = userRepository.findEmailById(id).orElse(null);
+        if (loaded != null) {
+            if (emails.size() >= MAX_SIZE) {
+                emails.clear();
+            }
+            emails.compute(id, (key, cached) -> generation.get() == loadedIn ? loaded : cached);
+        }
+        return loaded;
+    }
+
+    public void put(Long id, String email) {
+        if (emails.size() >= MAX_SIZE) {
+            emails.clear();
+        }
+        emails.compute(id, (key, cached) -> {
+            generation.incrementAndGet();
+            return email;
+        });
+    }
+
+    public void evict(Long id) {
+        emails.compute(id, (key, cached) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getPrincipal() == null) {
+            evict(event.getUserId());
+        } else {
+            put(event.getUserId(), event.getPrincipal().getEmail());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", "user_emails").tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", "user_emails").tag("result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", emails, Map::size)
+                .tag("cache", "user_emails")
+                .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package hexlet.code.component;
+
+import hexlet.code.util.UserUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Allows changes to {@code /api/users/{id}} only to the owner of the account.
+ * Tokens carrying the user id claim are checked without any lookup; older tokens fall back
+ * to the cached email of the user. Requests for unknown ids are let through, so the
+ * controller answers 404.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserOwnerAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    private final UserEmailCache userEmailCache;
+
+    private final UserUtils userUtils;
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        var auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || trustResolver.isAnonymous(auth)) {
+            return new AuthorizationDecision(false);
+        }
+
+        Long id;
+        try {
+            id = Long.valueOf(context.getVariables().get("id"));
+        } catch (NumberFormatException e) {
+            return new AuthorizationDecision(true);
+        }
+
+        if (id.equals(userUtils.getUserId(auth))) {
+            return new AuthorizationDecision(true);
+        }
+
+        var email = userEmailCache.getEmail(id);
+        return new AuthorizationDecision(email == null || email.equals(auth.getName()));
+    }
+}
@@ -0,0 +1,95 @@
+package hexlet.code.component;
+
+import hexlet.code.event.UserChangedEvent;
+import hexlet.code.model.UserPrincipal;
+import hexlet.code.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Email to {@link UserPrincipal} lookup for authentication and request-scoped identity.
+ * Misses are loaded with a projection query; changes made by {@link hexlet.code.service.UserService}
+ * are written through once they commit. A load that overlaps a change is returned but not cached,
+ * so an older read never replaces the principal of a later change or brings back a deleted user.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache implements MeterBinder {
+
+    private static final int MAX_SIZE = 100_000;
+
+    private final Map<String, UserPrincipal> principals = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    // Bumped by every change while holding the entry, loads check it the same way before caching
+    private final AtomicLong generation = new AtomicLong();
+
+    private final UserRepository userRepository;
+
+    /**
+     * Returns the principal for the email, or {@code null} when there is no such user.
+     */
+    public UserPrincipal get(String email) {
+        var principal = principals.get(email);
+        if (principal != null) {
+            hits.increment();
+            return principal;
+        }
+        misses.increment();
+
+        var loadedIn = generation.get();
+        var loaded = userRepository.findPrincipalByEmail(email).orElse(null);
+        if (loaded != null) {
+            if (principals.size() >= MAX_SIZE) {
+                principals.clear();
+            }
+            principals.compute(email, (key, cached) -> generation.get() == loadedIn ? loaded : cached);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getPreviousEmail());
+        var principal = event.getPrincipal();
+        if (principal != null) {
+            principals.compute(principal.getEmail(), (key, cached) -> {
+                generation.incrementAndGet();
+                return principal;
+            });
+        }
+    }
+
+    public void evict(String email) {
+        principals.compute(email, (key, cached) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", "user_principals").tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", "user_principals").tag("result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", principals, Map::size)
+                .tag("cache", "user_principals")
+                .register(registry);
+    }
+}
@@ -0,0 +1,386 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.event.DomainEvent;
+import hexlet.code.event.DomainEventSubscriber;
+import hexlet.code.model.WebhookDeadLetter;
+import hexlet.code.model.WebhookDelivery;
+import hexlet.code.model.WebhookSubscription;
+import hexlet.code.repository.WebhookDeadLetterRepository;
+import hexlet.code.repository.WebhookDeliveryRepository;
+import hexlet.code.repository.WebhookSubscriptionRepository;
+import hexlet.code.util.WebhookSignature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers task events from the outbox to webhook subscriptions.
+ * Every event is first stored as a {@link WebhookDelivery} per subscription and removed only after
+ * the endpoint confirmed it or it was dead-lettered, so a restart resumes where sending stopped.
+ * Every endpoint has its own bounded queue. Events are sent in signed batches, with a cap
+ * on requests in flight per endpoint, and failed batches are retried with exponential backoff
+ * until they end up in the dead-letter table. Sending is asynchronous, so a slow receiver
+ * only ever fills its own queue; what does not fit waits in the table.
+ */
+@Component
+@Slf4j
+public class WebhookDispatcher implements DomainEventSubscriber, DisposableBean {
+
+    private static final String TASK_EVENT_PREFIX = "task.";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+
+    private final WebhookDeliveryRepository deliveryRepository;
+
+    private final WebhookDeadLetterRepository deadLetterRepository;
+
+    private final WebhookProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final HttpClient httpClient;
+
+    private final Map<Long, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private volatile List<WebhookSubscription> subscriptions = List.of();
+
+    public WebhookDispatcher(WebhookSubscriptionRepository subscriptionRepository,
+                             WebhookDeliveryRepository deliveryRepository,
+                             WebhookDeadLetterRepository deadLetterRepository,
+                             WebhookProperties properties,
+                             ObjectMapper objectMapper) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.scheduler = Executors.newScheduledThreadPool(2, new CustomizableThreadFactory("webhook-"));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(scheduler)
+                .build();
+    }
+
+    /**
+     * Also picks up deliveries left over by a previous run or still waiting for room in a queue.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${webhooks.refresh-interval:PT30S}")
+    public void reload() {
+        var current = subscriptionRepository.findAll();
+        var ids = current.stream().map(WebhookSubscription::getId).toList();
+        endpoints.keySet().retainAll(ids);
+        subscriptions = current;
+
+        var pending = deliveryRepository.findSubscriptionIds();
+        for (var subscription : current) {
+            if (pending.contains(subscription.getId())) {
+                endpoint(subscription).resume();
+            }
+        }
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        if (!event.getType().startsWith(TASK_EVENT_PREFIX)) {
+            return;
+        }
+        for (var subscription : subscriptions) {
+            if (!isSubscribed(subscription, event.getType())
+                    // A repeat from the outbox, the stored delivery is already on its way
+                    || deliveryRepository.existsBySubscriptionIdAndEventId(subscription.getId(), event.getId())) {
+                continue;
+            }
+            var delivery = deliveryRepository.save(toDelivery(subscription, event));
+            endpoint(subscription).accept(delivery);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private Endpoint endpoint(WebhookSubscription subscription) {
+        return endpoints.computeIfAbsent(subscription.getId(), id -> new Endpoint(subscription));
+    }
+
+    private static boolean isSubscribed(WebhookSubscription subscription, String eventType) {
+        var eventTypes = subscription.getEventTypes();
+        return eventTypes == null || eventTypes.isEmpty() || Arrays.asList(eventTypes.split(",")).contains(eventType);
+    }
+
+    private static WebhookDelivery toDelivery(WebhookSubscription subscription, DomainEvent event) {
+        var delivery = new WebhookDelivery();
+        delivery.setSubscriptionId(subscription.getId());
+        delivery.setEventId(event.getId());
+        delivery.setAggregateType(event.getAggregateType());
+        delivery.setAggregateId(event.getAggregateId());
+        delivery.setEventType(event.getType());
+        delivery.setPayload(event.getPayload());
+        delivery.setOccurredAt(event.getOccurredAt());
+        return delivery;
+    }
+
+    private String toBody(List<WebhookDelivery> batch) throws IOException {
+        var root = objectMapper.createObjectNode();
+        var array = root.putArray("events");
+        for (var delivery : batch) {
+            var node = array.addObject();
+            node.put("id", delivery.getEventId());
+            node.put("type", delivery.getEventType());
+            node.put("occurredAt", String.valueOf(delivery.getOccurredAt()));
+            node.set("data", objectMapper.readTree(delivery.getPayload()));
+        }
+        return objectMapper.writeValueAsString(root);
+    }
+
+    /**
+     * The batch with every payload as a string, for payloads that are not valid JSON.
+     */
+    private String toRawBody(List<WebhookDelivery> batch) {
+        var root = objectMapper.createObjectNode();
+        var array = root.putArray("events");
+        for (var delivery : batch) {
+            var node = array.addObject();
+            node.put("id", delivery.getEventId());
+            node.put("type", delivery.getEventType());
+            node.put("occurredAt", String.valueOf(delivery.getOccurredAt()));
+            node.put("data", delivery.getPayload());
+        }
+        return root.toString();
+    }
+
+    private final class Endpoint {
+        private final WebhookSubscription subscription;
+        private final BlockingQueue<WebhookDelivery> queue;
+        private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+        private final Semaphore permits;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Lock refillLock = new ReentrantLock();
+
+        /**
+         * Stored deliveries may be missing from the queue, a new endpoint starts by reading them.
+         */
+        private volatile boolean backlog = true;
+
+        /**
+         * Read the table from the start on the next refill, after removing sent rows failed.
+         */
+        private volatile boolean rescan;
+
+        private long loadedUpTo;
+
+        private Endpoint(WebhookSubscription subscription) {
+            this.subscription = subscription;
+            this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+            this.permits = new Semaphore(properties.getMaxConcurrency());
+        }
+
+        private void accept(WebhookDelivery delivery) {
+            // With a backlog the table is read in order and the new row comes along
+            if (!backlog && !enqueue(delivery)) {
+                backlog = true;
+            }
+            schedule();
+        }
+
+        private void resume() {
+            if (backlog) {
+                schedule();
+            }
+        }
+
+        private boolean enqueue(WebhookDelivery delivery) {
+            if (!queued.add(delivery.getId())) {
+                return true;
+            }
+            if (queue.offer(delivery)) {
+                return true;
+            }
+            queued.remove(delivery.getId());
+            return false;
+        }
+
+        /**
+         * Moves stored deliveries into the queue. The flag is cleared before reading,
+         * so a row stored meanwhile is either read here or queued by {@link #accept}.
+         */
+        private void refill() {
+            if (!refillLock.tryLock()) {
+                return;
+            }
+            try {
+                backlog = false;
+                if (rescan) {
+                    rescan = false;
+                    loadedUpTo = 0;
+                }
+                var limit = Math.max(queue.remainingCapacity(), 1);
+                var rows = deliveryRepository.findPending(subscription.getId(), loadedUpTo, PageRequest.of(0, limit));
+                for (var row : rows) {
+                    if (!enqueue(row)) {
+                        backlog = true;
+                        return;
+                    }
+                    loadedUpTo = row.getId();
+                }
+                if (rows.size() == limit) {
+                    backlog = true;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not read pending deliveries for {}", subscription.getUrl(), e);
+                backlog = true;
+            } finally {
+                refillLock.unlock();
+            }
+        }
+
+        /**
+         * A full batch goes out right away, a partial one after the linger time.
+         */
+        private void schedule() {
+            if (queue.size() >= properties.getBatchSize()) {
+                scheduler.execute(this::flush);
+            } else if (scheduled.compareAndSet(false, true)) {
+                scheduler.schedule(() -> {
+                    scheduled.set(false);
+                    flush();
+                }, properties.getLinger().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void flush() {
+            if (queue.isEmpty() && backlog) {
+                refill();
+            }
+            while (!queue.isEmpty() && permits.tryAcquire()) {
+                var batch = new ArrayList<WebhookDelivery>(properties.getBatchSize());
+                queue.drainTo(batch, properties.getBatchSize());
+                if (batch.isEmpty()) {
+                    permits.release();
+                    return;
+                }
+                String body;
+                try {
+                    body = toBody(batch);
+                } catch (IOException e) {
+                    // Sending would fail the same way every time
+                    deadLetter(batch, toRawBody(batch), 0, "Invalid payload: " + e.getMessage());
+                    permits.release();
+                    continue;
+                }
+                send(batch, body, 1);
+            }
+        }
+
+        private void send(List<WebhookDelivery> batch, String body, int attempt) {
+            var timestamp = Instant.now().getEpochSecond();
+            var request = HttpRequest.newBuilder(URI.create(subscription.getUrl()))
+                    .timeout(properties.getRequestTimeout())
+                    .header("Content-Type", "application/json")
+                    .header(WebhookSignature.TIMESTAMP_HEADER, String.valueOf(timestamp))
+                    .header(WebhookSignature.SIGNATURE_HEADER,
+                            WebhookSignature.sign(subscription.getSecret(), timestamp, body))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error == null && response.statusCode() / 100 == 2) {
+                            complete(batch);
+                            permits.release();
+                            flush();
+                            return;
+                        }
+                        var reason = error != null ? String.valueOf(error.getMessage())
+                                : "HTTP " + response.statusCode();
+                        if (attempt >= properties.getMaxAttempts()) {
+                            deadLetter(batch, body, attempt, reason);
+                            permits.release();
+                            flush();
+                        } else {
+                            // The permit stays taken, so a failing endpoint gets fewer requests
+                            scheduler.schedule(() -> send(batch, body, attempt + 1), backoff(attempt),
+                                    TimeUnit.MILLISECONDS);
+                        }
+                    });
+        }
+
+        private long backoff(int attempt) {
+            var initial = properties.getInitialBackoff().toMillis();
+            var delay = initial << Math.min(attempt - 1, 20);
+            var capped = Math.min(delay, properties.getMaxBackoff().toMillis());
+            // Jitter keeps retries from many instances from arriving together
+            return capped / 2 + (long) (Math.random() * (capped / 2 + 1));
+        }
+
+        private void deadLetter(List<WebhookDelivery> batch, String body, int attempts, String reason) {
+            var deadLetter = new WebhookDeadLetter();
+            deadLetter.setSubscriptionId(subscription.getId());
+            deadLetter.setUrl(subscription.getUrl());
+            deadLetter.setPayload(body);
+            deadLetter.setAttempts(attempts);
+            deadLetter.setLastError(reason.length() > MAX_ERROR_LENGTH
+                    ? reason.substring(0, MAX_ERROR_LENGTH)
+                    : reason);
+            try {
+                deadLetterRepository.save(deadLetter);
+            } catch (RuntimeException e) {
+                // The deliveries stay stored and are sent again
+                log.warn("Could not dead-letter a batch for {}", subscription.getUrl(), e);
+                release(batch);
+                rescan = true;
+                backlog = true;
+                return;
+            }
+            complete(batch);
+        }
+
+        private void complete(List<WebhookDelivery> batch) {
+            try {
+                deliveryRepository.deleteByIds(batch.stream().map(WebhookDelivery::getId).toList());
+            } catch (RuntimeException e) {
+                // Sent again later, receivers ignore repeated event ids
+                log.warn("Could not remove sent deliveries for {}", subscription.getUrl(), e);
+            }
+            release(batch);
+        }
+
+        private void release(List<WebhookDelivery> batch) {
+            batch.forEach(delivery -> queued.remove(delivery.getId()));
+        }
+    }
+}
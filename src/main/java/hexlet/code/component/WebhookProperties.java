@@ -0,0 +1,50 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "webhooks")
+@Setter
+@Getter
+public class WebhookProperties {
+
+    /**
+     * Events per request.
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long the first event of a batch waits for more to join it.
+     */
+    private Duration linger = Duration.ofMillis(200);
+
+    /**
+     * Requests in flight per endpoint, retries included.
+     */
+    private int maxConcurrency = 2;
+
+    /**
+     * Events buffered per endpoint. When full, further events wait in the database until there is room.
+     */
+    private int queueCapacity = 10_000;
+
+    private int maxAttempts = 6;
+
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How often subscriptions changed by other instances are picked up.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,20 @@
+package hexlet.code.config;
+
+import hexlet.code.component.JournalProperties;
+import hexlet.code.util.Journal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "journal", name = "enabled", havingValue = "true")
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public Journal journal(JournalProperties properties) throws IOException {
+        return Journal.open(Path.of(properties.getDirectory()), Math.toIntExact(properties.getSegmentSize().toBytes()));
+    }
+}
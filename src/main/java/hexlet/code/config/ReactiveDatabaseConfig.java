@@ -0,0 +1,47 @@
+package hexlet.code.config;
+
+import hexlet.code.component.ReactiveDatabaseProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+@Configuration
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+    private final ReactiveDatabaseProperties properties;
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * The connection pool is deliberately not a bean: the data source auto-configuration
+     * backs off as soon as a ConnectionFactory bean exists, and JPA still needs its DataSource.
+     */
+    @Bean
+    public DatabaseClient databaseClient() {
+        var options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        var poolConfiguration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(properties.getPoolSize())
+                .build();
+        connectionPool = new ConnectionPool(poolConfiguration);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package hexlet.code.config;
 
+import hexlet.code.component.AdminAuthorizationManager;
+import hexlet.code.component.UserOwnerAuthorizationManager;
 import hexlet.code.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -31,6 +38,10 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userService;
 
+    private final UserOwnerAuthorizationManager userOwnerAuthorizationManager;
+
+    private final AdminAuthorizationManager adminAuthorizationManager;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, HandlerMappingIntrospector introspector)
             throws Exception {
@@ -38,6 +49,8 @@ public class SecurityConfig {
         return http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // async results are written after the original request has been authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/welcome")).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/swagger-ui/**")).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/v3/api-docs/**")).permitAll()
@@ -45,6 +58,14 @@ public class SecurityConfig {
                         .requestMatchers(mvcMatcherBuilder.pattern("/")).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/index.html")).permitAll()
                         .requestMatchers(mvcMatcherBuilder.pattern("/assets/**")).permitAll()
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class))
+                            .permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).access(adminAuthorizationManager)
+                        .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.PUT, "/api/users/{id}"))
+                            .access(userOwnerAuthorizationManager)
+                        .requestMatchers(mvcMatcherBuilder.pattern(HttpMethod.DELETE, "/api/users/{id}"))
+                            .access(userOwnerAuthorizationManager)
+                        .requestMatchers(mvcMatcherBuilder.pattern("/api/admin/**")).access(adminAuthorizationManager)
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2ResourceServer((rs) -> rs.jwt((jwt) -> jwt.decoder(jwtDecoder)))
@@ -0,0 +1,39 @@
+package hexlet.code.config;
+
+import hexlet.code.component.SqlLoggingProperties;
+import hexlet.code.component.SqlStatementRecorder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlLoggingConfig {
+
+    /**
+     * Wraps the JDBC data source so that {@link SqlStatementRecorder} sees every statement,
+     * replacing Hibernate's show-sql. Static and lazy, so that registering the post processor
+     * does not create the recorder before the other beans are post processed.
+     */
+    @Bean
+    public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(
+            ObjectProvider<SqlLoggingProperties> properties, ObjectProvider<SqlStatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && properties.getObject().isEnabled()) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(recorder.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.CycleTimeDTO;
+import hexlet.code.dto.FlowDayDTO;
+import hexlet.code.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Analytics controller", description = "Task flow through statuses, from daily rollups")
+@RestController
+@RequestMapping("/api/analytics")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @Operation(summary = "Get the number of tasks in each status at the end of every day")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cumulative flow, one entry per day",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FlowDayDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Invalid range", content = @Content) })
+    @GetMapping("/flow")
+    @ResponseStatus(HttpStatus.OK)
+    public List<FlowDayDTO> flow(
+            @Parameter(description = "First day, UTC; defaults to 30 days before the last one")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, UTC; defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return analyticsService.getFlow(from, to);
+    }
+
+    @Operation(summary = "Get the average and longest time tasks spent in each status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Time in status of the tasks that left it in the range",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CycleTimeDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Invalid range", content = @Content) })
+    @GetMapping("/cycle-time")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CycleTimeDTO> cycleTime(
+            @Parameter(description = "First day, UTC; defaults to 30 days before the last one")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, UTC; defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return analyticsService.getCycleTimes(from, to);
+    }
+}
@@ -1,19 +1,29 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.LoginRateLimiter;
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.exception.TooManyRequestsException;
+import hexlet.code.model.UserPrincipal;
+import hexlet.code.service.TokenRevocationService;
 import hexlet.code.util.JWTUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Authentication controller", description = "User authentication")
@@ -26,20 +36,42 @@ public class AuthenticationController {
 
     private final AuthenticationManager authenticationManager;
 
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final TokenRevocationService tokenRevocationService;
+
     @Operation(summary = "Authenticates the user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful authorization", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts", content = @Content)
     })
     @PostMapping("/login")
     public String create(
             @Parameter(description = "User data for authentication")
-            @RequestBody AuthRequest authRequest) {
+            @RequestBody AuthRequest authRequest,
+            HttpServletRequest request) {
+        if (!loginRateLimiter.tryAcquire(authRequest.getUsername(), request.getRemoteAddr())) {
+            throw new TooManyRequestsException("Too many login attempts, try again later");
+        }
+
         var authentication = new UsernamePasswordAuthenticationToken(
                 authRequest.getUsername(), authRequest.getPassword());
 
-        authenticationManager.authenticate(authentication);
+        var principal = (UserPrincipal) authenticationManager.authenticate(authentication).getPrincipal();
 
-        return jwtUtils.generateToken(authRequest.getUsername());
+        return jwtUtils.generateToken(principal.getUsername(), principal.getId());
+    }
+
+    @Operation(summary = "Revokes the token used for this request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @SecurityRequirement(name = "JWT")
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@AuthenticationPrincipal Jwt token) {
+        tokenRevocationService.revoke(token);
     }
 }
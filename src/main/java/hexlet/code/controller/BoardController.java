@@ -0,0 +1,63 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.BoardColumnDTO;
+import hexlet.code.dto.BoardDTO;
+import hexlet.code.service.BoardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Board controller", description = "Tasks grouped by status")
+@RestController
+@RequestMapping("/api/board")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class BoardController {
+
+    private final BoardService boardService;
+
+    @Operation(summary = "Get every task status with its task count and first tasks in board order")
+    @ApiResponse(responseCode = "200", description = "Board columns",
+            content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BoardDTO.class)) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public BoardDTO index(
+            @Parameter(description = "Maximum number of tasks per column")
+            @RequestParam(required = false) Integer limit) {
+        return boardService.getBoard(limit);
+    }
+
+    @Operation(summary = "Get the next tasks of one board column")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks after the cursor",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BoardColumnDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Task status with that id not found",
+                    content = @Content) })
+    @GetMapping("/columns/{statusId}")
+    @ResponseStatus(HttpStatus.OK)
+    public BoardColumnDTO column(
+            @Parameter(description = "Id of task status")
+            @PathVariable Long statusId,
+            @Parameter(description = "nextCursor of the previous page, the first page without it")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of tasks")
+            @RequestParam(required = false) Integer limit) {
+        return boardService.getColumn(statusId, cursor, limit);
+    }
+}
@@ -0,0 +1,48 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.ChangeFeedDTO;
+import hexlet.code.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Changes controller", description = "Incremental sync of tasks, labels, task statuses and users")
+@RestController
+@RequestMapping("/api/changes")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class ChangesController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @Operation(summary = "Get changes made after the given sequence number",
+            description = "Returns the latest upsert or tombstone of every changed entity in sequence order."
+                    + " Without since only the current sequence number is returned.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes after the sequence number",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ChangeFeedDTO.class)) }),
+            @ApiResponse(responseCode = "410", description = "Changes were purged, a full resync is required",
+                    content = @Content) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public ChangeFeedDTO index(
+            @Parameter(description = "Last sequence number the client has seen")
+            @RequestParam(required = false) Long since,
+            @Parameter(description = "Maximum number of changes to return")
+            @RequestParam(required = false) Integer limit) {
+        return changeFeedService.getChanges(since, limit);
+    }
+}
@@ -0,0 +1,58 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.JfrEventsDTO;
+import hexlet.code.service.JfrEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "JFR events controller", description = "Flight Recorder domain events administration")
+@RestController
+@RequestMapping("/api/admin/jfr/events")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class JfrEventsController {
+
+    private final JfrEventService jfrEventService;
+
+    @Operation(summary = "Get whether the domain events are recorded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "State of the domain events",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = JfrEventsDTO.class)) }),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public JfrEventsDTO show() {
+        return jfrEventService.getState();
+    }
+
+    @Operation(summary = "Switch the domain events on or off")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Domain events switched",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = JfrEventsDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Enabled flag is missing",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @PutMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public JfrEventsDTO update(@Valid @RequestBody JfrEventsDTO data) {
+        return jfrEventService.setEnabled(data.getEnabled());
+    }
+}
@@ -0,0 +1,70 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.ProfileWindowDTO;
+import hexlet.code.service.ProfilingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Profile controller", description = "Continuous CPU and allocation profile")
+@RestController
+@RequestMapping("/api/admin/profile")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class ProfileController {
+
+    private final ProfilingService profilingService;
+
+    @Operation(summary = "Get the profile windows kept in memory, oldest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Profile windows with their sample totals",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProfileWindowDTO.class)) }),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Profiling is disabled",
+                    content = @Content) })
+    @GetMapping("/windows")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProfileWindowDTO> windows() {
+        return profilingService.getWindows();
+    }
+
+    @Operation(summary = "Get collapsed stacks for flame graphs",
+            description = "One line per stack, frames from the root separated by semicolons, then the number of"
+                    + " CPU samples or the estimated bytes allocated.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Collapsed stacks, most frequent first",
+                    content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE)),
+            @ApiResponse(responseCode = "400", description = "Unknown profile type or invalid number of windows",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Profiling is disabled",
+                    content = @Content) })
+    @GetMapping(path = "/{type}", produces = MediaType.TEXT_PLAIN_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public String collapsedStacks(
+            @Parameter(description = "Profile type, cpu or allocation")
+            @PathVariable String type,
+            @Parameter(description = "Number of most recent windows to merge, the current one included")
+            @RequestParam(defaultValue = "1") int windows) {
+        return profilingService.getCollapsedStacks(type, windows);
+    }
+}
@@ -0,0 +1,66 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.TaskStatusDTO;
+import hexlet.code.service.ReactiveTaskStatusService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Tag(name = "Reactive task statuses controller", description = "Non-blocking read access to task statuses")
+@RestController
+@RequestMapping("/api/reactive/task_statuses")
+@Profile("reactive")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class ReactiveTaskStatusesController {
+
+    public static final String ID = "/{id}";
+
+    private final ReactiveTaskStatusService taskStatusService;
+
+    @Operation(summary = "Get a task status by its id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found the task status",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskStatusDTO.class)) }),
+            @ApiResponse(responseCode = "404", description = "Task status with that id not found",
+                    content = @Content) })
+    @GetMapping(ID)
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<TaskStatusDTO> show(
+            @Parameter(description = "Id of task status to be searched")
+            @PathVariable Long id) {
+        return taskStatusService.findById(id);
+    }
+
+    @Operation(summary = "Get list of all task statuses")
+    @ApiResponse(responseCode = "200", description = "List of all task statuses",
+            content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TaskStatusDTO.class)) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<List<TaskStatusDTO>>> index() {
+        return taskStatusService.getAll()
+                .collectList()
+                .map(taskStatuses -> ResponseEntity.ok()
+                        .header("X-Total-Count", String.valueOf(taskStatuses.size()))
+                        .body(taskStatuses));
+    }
+}
@@ -0,0 +1,69 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.service.ReactiveTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Tag(name = "Reactive tasks controller", description = "Non-blocking read access to tasks")
+@RestController
+@RequestMapping("/api/reactive/tasks")
+@Profile("reactive")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class ReactiveTasksController {
+
+    public static final String ID = "/{id}";
+
+    private final ReactiveTaskService taskService;
+
+    @Operation(summary = "Get a task by its id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found the task",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskDTO.class)) }),
+            @ApiResponse(responseCode = "404", description = "Task with that id not found",
+                    content = @Content) })
+    @GetMapping(ID)
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<TaskDTO> show(
+            @Parameter(description = "Id of task to be searched")
+            @PathVariable Long id) {
+        return taskService.findById(id);
+    }
+
+    @Operation(summary = "Get list of all tasks")
+    @ApiResponse(responseCode = "200", description = "List of all tasks",
+            content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TaskDTO.class)) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseEntity<List<TaskDTO>>> index(
+            @Parameter(description = "Filtering parameters for task list")
+            TaskParamsDTO params) {
+        return taskService.getAll(params)
+                .collectList()
+                .map(tasks -> ResponseEntity.ok()
+                        .header("X-Total-Count", String.valueOf(tasks.size()))
+                        .body(tasks));
+    }
+}
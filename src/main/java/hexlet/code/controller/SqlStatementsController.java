@@ -0,0 +1,58 @@
+package hexlet.code.controller;
+
+import hexlet.code.component.SqlStatementRecorder;
+import hexlet.code.dto.SqlStatementStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "SQL statements controller", description = "Statement counts and latencies by fingerprint")
+@RestController
+@RequestMapping("/api/admin/sql/statements")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class SqlStatementsController {
+
+    private final SqlStatementRecorder sqlStatementRecorder;
+
+    @Operation(summary = "Get statement fingerprints with the most total time first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counts and latencies since startup or the last reset",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SqlStatementStatsDTO.class)) }),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public List<SqlStatementStatsDTO> index(
+            @Parameter(description = "Maximum number of fingerprints to return")
+            @RequestParam(defaultValue = "50") int limit) {
+        return sqlStatementRecorder.getStatements(Math.max(0, limit));
+    }
+
+    @Operation(summary = "Reset the statement counts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Counts reset", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @DeleteMapping("")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void reset() {
+        sqlStatementRecorder.reset();
+    }
+}
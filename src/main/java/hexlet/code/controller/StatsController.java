@@ -0,0 +1,36 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.TaskStatsDTO;
+import hexlet.code.service.TaskStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Stats controller", description = "Task counts for dashboards")
+@RestController
+@RequestMapping("/api/stats")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class StatsController {
+
+    private final TaskStatsService taskStatsService;
+
+    @Operation(summary = "Get task counts by status, assignee and label")
+    @ApiResponse(responseCode = "200", description = "Task counts, served from memory",
+            content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TaskStatsDTO.class)) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskStatsDTO index() {
+        return taskStatsService.getStats();
+    }
+}
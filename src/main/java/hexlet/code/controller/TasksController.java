@@ -1,9 +1,13 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.TaskEventBroadcaster;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskHistoryEntryDTO;
+import hexlet.code.dto.TaskMoveDTO;
 import hexlet.code.dto.TaskParamsDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.service.TaskHistoryService;
 import hexlet.code.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,8 +29,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -40,6 +47,10 @@ public class TasksController {
 
     private final TaskService taskService;
 
+    private final TaskEventBroadcaster taskEventBroadcaster;
+
+    private final TaskHistoryService taskHistoryService;
+
     @Operation(summary = "Get a task by its id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found the task",
@@ -71,6 +82,40 @@ public class TasksController {
                 .body(tasks);
     }
 
+    @Operation(summary = "Get field changes of a task, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One page of changes, X-Total-Count holds the total",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskHistoryEntryDTO.class)) }),
+            @ApiResponse(responseCode = "404", description = "Task with that id not found",
+                    content = @Content) })
+    @GetMapping(ID + "/history")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<TaskHistoryEntryDTO>> history(
+            @Parameter(description = "Id of task")
+            @PathVariable Long id,
+            @Parameter(description = "Page number, starting from 0")
+            @RequestParam(required = false) Integer page,
+            @Parameter(description = "Number of changes per page")
+            @RequestParam(required = false) Integer size) {
+        var history = taskHistoryService.getHistory(id, page, size);
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(history.getTotalElements()))
+                .body(history.getContent());
+    }
+
+    @Operation(summary = "Subscribe to created, updated and deleted tasks as Server-Sent Events")
+    @ApiResponse(responseCode = "200", description = "Stream of task events named created, updated and deleted",
+            content = { @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = TaskDTO.class)) })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "Filtering parameters for task events")
+            TaskParamsDTO params) {
+        return taskEventBroadcaster.subscribe(params);
+    }
+
     @Operation(summary = "Create new task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Task created",
@@ -104,6 +149,24 @@ public class TasksController {
         return taskService.update(taskData, id);
     }
 
+    @Operation(summary = "Move task between two tasks of a column, or to its end without neighbours")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task moved",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Neighbours or status are not in the target column",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Task with that id not found") })
+    @PostMapping(ID + "/move")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskDTO move(
+            @Parameter(description = "Neighbours and column to move the task to")
+            @RequestBody TaskMoveDTO moveData,
+            @Parameter(description = "Id of task to be moved")
+            @PathVariable Long id) {
+        return taskService.move(id, moveData);
+    }
+
     @Operation(summary = "Delete task by its id")
     @ApiResponse(responseCode = "204", description = "Task deleted", content = @Content)
     @DeleteMapping(ID)
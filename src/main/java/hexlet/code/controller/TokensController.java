@@ -0,0 +1,48 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.TokenRevokeDTO;
+import hexlet.code.service.TokenRevocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Tokens controller", description = "Token administration")
+@RestController
+@RequestMapping("/api/admin/tokens")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class TokensController {
+
+    private final JwtDecoder jwtDecoder;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Operation(summary = "Revoke a token before it expires")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Token is malformed, expired or already revoked",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content)
+    })
+    @PostMapping("/revoke")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revoke(
+            @Parameter(description = "Token to revoke")
+            @Valid @RequestBody TokenRevokeDTO tokenData) {
+        tokenRevocationService.revoke(jwtDecoder.decode(tokenData.getToken()));
+    }
+}
@@ -16,7 +16,6 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -38,10 +37,6 @@ public class UsersController {
 
     public static final String ID = "/{id}";
 
-    private static final String ONLY_OWNER_BY_ID = """
-            @userRepository.findById(#id).get().getEmail() == authentication.getName()
-        """;
-
     private final UserService userService;
 
     @Operation(summary = "Get specific user by his id")
@@ -98,7 +93,6 @@ public class UsersController {
             content = @Content)
     })
     @PutMapping(ID)
-    @PreAuthorize(ONLY_OWNER_BY_ID)
     @ResponseStatus(HttpStatus.OK)
     public UserDTO update(
             @Parameter(description = "User data to update")
@@ -111,10 +105,11 @@ public class UsersController {
     @Operation(summary = "Delete user by his id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "User deleted", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+            content = @Content),
             @ApiResponse(responseCode = "405", description = "Operation not possible", content = @Content)
     })
     @DeleteMapping(ID)
-    @PreAuthorize(ONLY_OWNER_BY_ID)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void destroy(
             @Parameter(description = "Id of user to be deleted")
@@ -0,0 +1,104 @@
+package hexlet.code.controller;
+
+import hexlet.code.dto.WebhookCreateDTO;
+import hexlet.code.dto.WebhookDTO;
+import hexlet.code.dto.WebhookDeadLetterDTO;
+import hexlet.code.service.WebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Webhooks controller", description = "Manages webhook subscriptions to task events")
+@RestController
+@RequestMapping("/api/admin/webhooks")
+@AllArgsConstructor
+@SecurityRequirement(name = "JWT")
+public class WebhooksController {
+
+    public static final String ID = "/{id}";
+
+    private final WebhookService webhookService;
+
+    @Operation(summary = "Get list of all webhook subscriptions")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of all webhook subscriptions",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WebhookDTO.class)) }),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @GetMapping("")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<WebhookDTO>> index() {
+        var webhooks = webhookService.getAll();
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(webhooks.size()))
+                .body(webhooks);
+    }
+
+    @Operation(summary = "Subscribe an endpoint to task events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Webhook subscription created",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WebhookDTO.class)) }),
+            @ApiResponse(responseCode = "400", description = "Invalid webhook data supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @PostMapping("")
+    @ResponseStatus(HttpStatus.CREATED)
+    public WebhookDTO create(
+            @Parameter(description = "Webhook data to save")
+            @Valid @RequestBody WebhookCreateDTO webhookData) {
+        return webhookService.create(webhookData);
+    }
+
+    @Operation(summary = "Delete webhook subscription by its id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Webhook subscription deleted", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Operation not possible. Access denied",
+                    content = @Content) })
+    @DeleteMapping(ID)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void destroy(
+            @Parameter(description = "Id of webhook subscription to be deleted")
+            @PathVariable Long id) {
+        webhookService.delete(id);
+    }
+
+    @Operation(summary = "Get batches that could not be delivered to a webhook")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Undelivered batches, newest first",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WebhookDeadLetterDTO.class)) }),
+            @ApiResponse(responseCode = "404", description = "Webhook with that id not found",
+                    content = @Content) })
+    @GetMapping(ID + "/dead-letters")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<WebhookDeadLetterDTO>> deadLetters(
+            @Parameter(description = "Id of webhook subscription")
+            @PathVariable Long id) {
+        var deadLetters = webhookService.getDeadLetters(id);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(deadLetters.size()))
+                .body(deadLetters);
+    }
+}
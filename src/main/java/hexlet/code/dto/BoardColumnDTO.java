@@ -0,0 +1,22 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class BoardColumnDTO {
+    private Long statusId;
+    private String name;
+    private String slug;
+    private long count;
+    private List<TaskDTO> tasks = new ArrayList<>();
+
+    /**
+     * Pass to the column endpoint to load the tasks after these, absent on the last page.
+     */
+    private String nextCursor;
+}
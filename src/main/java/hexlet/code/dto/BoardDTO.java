@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BoardDTO {
+    private List<BoardColumnDTO> columns;
+}
@@ -0,0 +1,16 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ChangeDTO {
+    private Long seq;
+    private String entity;
+    private Long id;
+    private String operation;
+    private Object data;
+}
@@ -0,0 +1,16 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ChangeFeedDTO {
+    private Long lastSeq;
+    private boolean hasMore;
+    private List<ChangeDTO> changes;
+}
@@ -0,0 +1,25 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Time tasks spent in one status, over the tasks that left it during the requested days.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CycleTimeDTO {
+    private String status;
+    private long exits;
+    private long averageSeconds;
+    private long maxSeconds;
+
+    public CycleTimeDTO(String status, Long exits, Long totalSeconds, Long maxSeconds) {
+        this.status = status;
+        this.exits = exits;
+        this.averageSeconds = exits == 0 ? 0 : totalSeconds / exits;
+        this.maxSeconds = maxSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package hexlet.code.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Number of tasks in each status at the end of one UTC day.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowDayDTO {
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    private Map<String, Long> statuses;
+}
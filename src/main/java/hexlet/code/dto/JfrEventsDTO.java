@@ -0,0 +1,21 @@
+package hexlet.code.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrEventsDTO {
+
+    @NotNull
+    private Boolean enabled;
+
+    private List<String> events;
+}
@@ -0,0 +1,22 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class ProfileWindowDTO {
+
+    private Instant start;
+
+    private Instant end;
+
+    private long cpuSamples;
+
+    /**
+     * Estimated bytes allocated, the sum of the weights of the allocation samples.
+     */
+    private long allocatedBytes;
+}
@@ -0,0 +1,24 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SqlStatementStatsDTO {
+
+    /**
+     * Statement with literals, IN lists and extra VALUES rows replaced by placeholders.
+     */
+    private String fingerprint;
+
+    private long count;
+
+    private long errors;
+
+    private long totalMillis;
+
+    private double meanMillis;
+
+    private long maxMillis;
+}
@@ -0,0 +1,20 @@
+package hexlet.code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of tasks in one group, only the fields the tasks are grouped by are present.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountDTO {
+    private String status;
+    private Long assigneeId;
+    private Long labelId;
+    private long count;
+}
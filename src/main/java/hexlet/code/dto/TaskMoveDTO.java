@@ -0,0 +1,27 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Without neighbours the task goes to the end of the column.
+ */
+@Getter
+@Setter
+public class TaskMoveDTO {
+
+    /**
+     * Task that will come right after the moved one.
+     */
+    private Long beforeId;
+
+    /**
+     * Task that will come right before the moved one.
+     */
+    private Long afterId;
+
+    /**
+     * Slug of the column to move to, the current one if absent.
+     */
+    private String status;
+}
@@ -0,0 +1,31 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+public class TaskStatsDTO {
+    private long total;
+    private List<TaskCountDTO> byStatus;
+
+    /**
+     * Unassigned tasks are counted in the entry without assigneeId.
+     */
+    private List<TaskCountDTO> byAssignee;
+
+    private List<TaskCountDTO> byLabel;
+
+    /**
+     * Counts by status and assignee together.
+     */
+    private List<TaskCountDTO> byStatusAndAssignee;
+
+    /**
+     * When the counts were last recounted from the database.
+     */
+    private Instant reconciledAt;
+}
@@ -0,0 +1,13 @@
+package hexlet.code.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TokenRevokeDTO {
+
+    @NotBlank
+    private String token;
+}
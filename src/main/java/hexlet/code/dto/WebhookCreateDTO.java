@@ -0,0 +1,26 @@
+package hexlet.code.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class WebhookCreateDTO {
+
+    @NotBlank
+    @Pattern(regexp = "https?://.+")
+    private String url;
+
+    @NotNull
+    @Size(min = 16, max = 255)
+    private String secret;
+
+    private List<@Pattern(regexp = "task\\.(created|updated|deleted)") String> eventTypes = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Setter
+public class WebhookDTO {
+    private Long id;
+    private String url;
+    private List<String> eventTypes;
+    private Date createdAt;
+}
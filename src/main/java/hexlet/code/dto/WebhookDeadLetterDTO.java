@@ -0,0 +1,18 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class WebhookDeadLetterDTO {
+    private Long id;
+    private Long subscriptionId;
+    private String url;
+    private String payload;
+    private int attempts;
+    private String lastError;
+    private Instant createdAt;
+}
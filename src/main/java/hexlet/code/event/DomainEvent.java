@@ -0,0 +1,34 @@
+package hexlet.code.event;
+
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * An outbox entry on its way to the subscribers. Delivery is at least once,
+ * so subscribers should use {@code id} to ignore repeats.
+ */
+@Getter
+@AllArgsConstructor
+public class DomainEvent {
+
+    private final Long id;
+
+    private final EntityType aggregateType;
+
+    private final Long aggregateId;
+
+    /**
+     * Aggregate and action, such as {@code task.created} or {@code label.deleted}.
+     */
+    private final String type;
+
+    /**
+     * JSON of the aggregate DTO after the change, or before it for deletions.
+     */
+    private final String payload;
+
+    private final Instant occurredAt;
+}
@@ -0,0 +1,14 @@
+package hexlet.code.event;
+
+/**
+ * Receives every domain event from the outbox. Beans implementing this interface are
+ * picked up by {@link hexlet.code.component.OutboxDispatcher}, each on its own thread.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * A subscriber that throws gets the event again, first right away and then on a later
+     * outbox pass, so processing should be idempotent.
+     */
+    void onEvent(DomainEvent event) throws Exception;
+}
@@ -0,0 +1,65 @@
+package hexlet.code.event;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskParamsDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Published by {@link hexlet.code.service.TaskService} after a task has been written.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+
+    private final TaskDTO task;
+
+    private final Set<Long> labelIds;
+
+    /**
+     * State before an update, {@code null} for other events.
+     */
+    private final TaskDTO previousTask;
+
+    private final Set<Long> previousLabelIds;
+
+    public static TaskEvent created(TaskDTO task, Set<Long> labelIds) {
+        return new TaskEvent(Type.CREATED, task, labelIds, null, null);
+    }
+
+    public static TaskEvent updated(TaskDTO previousTask, Set<Long> previousLabelIds,
+                                    TaskDTO task, Set<Long> labelIds) {
+        return new TaskEvent(Type.UPDATED, task, labelIds, previousTask, previousLabelIds);
+    }
+
+    public static TaskEvent deleted(TaskDTO task, Set<Long> labelIds) {
+        return new TaskEvent(Type.DELETED, task, labelIds, null, null);
+    }
+
+    /**
+     * Whether a client filtering by these parameters sees the task before or after the change,
+     * so that tasks moving out of a filtered view are reported too.
+     */
+    public boolean matches(TaskParamsDTO params) {
+        return matches(params, task, labelIds)
+                || previousTask != null && matches(params, previousTask, previousLabelIds);
+    }
+
+    private static boolean matches(TaskParamsDTO params, TaskDTO task, Set<Long> labelIds) {
+        return (params.getAssigneeId() == null || params.getAssigneeId().equals(task.getAssigneeId()))
+                && (params.getTitleCont() == null || task.getTitle() != null
+                        && task.getTitle().toLowerCase().contains(params.getTitleCont().toLowerCase()))
+                && (params.getStatus() == null || params.getStatus().equals(task.getStatus()))
+                && (params.getLabelId() == null || labelIds.contains(params.getLabelId()));
+    }
+}
@@ -0,0 +1,17 @@
+package hexlet.code.event;
+
+import hexlet.code.model.TaskHistoryEntry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Field changes of one task write, published by {@link hexlet.code.service.TaskHistoryService}.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskHistoryEvent {
+
+    private final List<TaskHistoryEntry> entries;
+}
@@ -0,0 +1,23 @@
+package hexlet.code.event;
+
+import hexlet.code.model.UserPrincipal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An updated or deleted user, published by {@link hexlet.code.service.UserService}
+ * so the user caches follow the row once the write has committed.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+
+    private final String previousEmail;
+
+    /**
+     * The user as written, {@code null} when it was deleted.
+     */
+    private final UserPrincipal principal;
+}
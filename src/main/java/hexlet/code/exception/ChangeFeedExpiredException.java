@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class ChangeFeedExpiredException extends RuntimeException {
+    public ChangeFeedExpiredException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,14 @@
 package hexlet.code.handler;
 
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.ChangeFeedExpiredException;
 import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.exception.TooManyRequestsException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,9 +20,11 @@ import java.util.List;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.GONE;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.METHOD_NOT_ALLOWED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @ResponseBody
@@ -55,6 +61,30 @@ public class BaseExceptionHandler {
         return exception.getMessage();
     }
 
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(JwtException.class)
+    public String jwtExceptionHandler(JwtException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseStatus(TOO_MANY_REQUESTS)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public String tooManyRequestsExceptionHandler(TooManyRequestsException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseStatus(GONE)
+    @ExceptionHandler(ChangeFeedExpiredException.class)
+    public String changeFeedExpiredExceptionHandler(ChangeFeedExpiredException exception) {
+        return exception.getMessage();
+    }
+
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(BadRequestException.class)
+    public String badRequestExceptionHandler(BadRequestException exception) {
+        return exception.getMessage();
+    }
+
     @ResponseStatus(BAD_REQUEST)
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public String validationExceptionsHandler(HttpMessageNotReadableException exception) {
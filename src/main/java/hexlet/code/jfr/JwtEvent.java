@@ -0,0 +1,26 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("hexlet.code.Jwt")
+@Label("JWT")
+@Category({"Task Manager", "Security"})
+@StackTrace(false)
+@Setter
+public final class JwtEvent extends Event {
+
+    public static final String ENCODE = "encode";
+
+    public static final String DECODE = "decode";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Failed")
+    private boolean failed;
+}
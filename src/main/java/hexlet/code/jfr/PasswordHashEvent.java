@@ -0,0 +1,28 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("hexlet.code.PasswordHash")
+@Label("Password Hash")
+@Category({"Task Manager", "Security"})
+@StackTrace(false)
+@Setter
+public final class PasswordHashEvent extends Event {
+
+    public static final String ENCODE = "encode";
+
+    public static final String MATCHES = "matches";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Matched")
+    @Description("Whether the password matched, false for encode")
+    private boolean matched;
+}
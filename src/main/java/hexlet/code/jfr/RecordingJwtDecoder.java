@@ -0,0 +1,36 @@
+package hexlet.code.jfr;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Records a {@link JwtEvent} around every decode, including signature and claim validation.
+ */
+public final class RecordingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    public RecordingJwtDecoder(JwtDecoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var event = new JwtEvent();
+        event.begin();
+        var failed = true;
+        try {
+            var jwt = delegate.decode(token);
+            failed = false;
+            return jwt;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setOperation(JwtEvent.DECODE);
+                event.setFailed(failed);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package hexlet.code.jfr;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+/**
+ * Records a {@link JwtEvent} around every encode, which includes the RSA signature.
+ */
+public final class RecordingJwtEncoder implements JwtEncoder {
+
+    private final JwtEncoder delegate;
+
+    public RecordingJwtEncoder(JwtEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        var event = new JwtEvent();
+        event.begin();
+        var failed = true;
+        try {
+            var jwt = delegate.encode(parameters);
+            failed = false;
+            return jwt;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setOperation(JwtEvent.ENCODE);
+                event.setFailed(failed);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package hexlet.code.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Records a {@link PasswordHashEvent} around hashing and checking passwords, usually the most
+ * expensive step of a login.
+ */
+public final class RecordingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public RecordingPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        var event = new PasswordHashEvent();
+        event.begin();
+        var encoded = delegate.encode(rawPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(PasswordHashEvent.ENCODE);
+            event.commit();
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        var event = new PasswordHashEvent();
+        event.begin();
+        var matched = delegate.matches(rawPassword, encodedPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(PasswordHashEvent.MATCHES);
+            event.setMatched(matched);
+            event.commit();
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
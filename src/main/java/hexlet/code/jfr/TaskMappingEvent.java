@@ -0,0 +1,25 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("hexlet.code.TaskMapping")
+@Label("Task Mapping")
+@Category({"Task Manager", "Mapper"})
+@Description("A call of a TaskMapper method")
+@StackTrace(false)
+@Setter
+public final class TaskMappingEvent extends Event {
+
+    @Label("Method")
+    private String method;
+
+    @Label("Source")
+    @Description("Simple class name of the mapped object")
+    private String source;
+}
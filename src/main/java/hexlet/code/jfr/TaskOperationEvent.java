@@ -0,0 +1,32 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("hexlet.code.TaskOperation")
+@Label("Task Operation")
+@Category({"Task Manager", "Service"})
+@Description("A call of a TaskService method")
+@StackTrace(false)
+@Setter
+public final class TaskOperationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Task Id")
+    @Description("Id of the task, 0 for lists")
+    private long taskId;
+
+    @Label("Result Count")
+    @Description("Number of tasks returned")
+    private int resultCount;
+
+    @Label("Failed")
+    private boolean failed;
+}
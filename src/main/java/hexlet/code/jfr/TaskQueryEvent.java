@@ -0,0 +1,48 @@
+package hexlet.code.jfr;
+
+import hexlet.code.dto.TaskParamsDTO;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+import java.util.StringJoiner;
+
+@Name("hexlet.code.TaskQuery")
+@Label("Task Query")
+@Category({"Task Manager", "Database"})
+@Description("Execution of a task list query built by TaskSpecification")
+@StackTrace(false)
+@Setter
+public final class TaskQueryEvent extends Event {
+
+    @Label("Filters")
+    @Description("Names of the filters set, values are left out")
+    private String filters;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    /**
+     * Returns the names of the filters set in the parameters, such as {@code status,labelId}.
+     */
+    public static String shape(TaskParamsDTO params) {
+        var filters = new StringJoiner(",");
+        if (params.getTitleCont() != null) {
+            filters.add("titleCont");
+        }
+        if (params.getAssigneeId() != null) {
+            filters.add("assigneeId");
+        }
+        if (params.getStatus() != null) {
+            filters.add("status");
+        }
+        if (params.getLabelId() != null) {
+            filters.add("labelId");
+        }
+        return filters.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package hexlet.code.mapper;
+
+import hexlet.code.dto.TaskHistoryEntryDTO;
+import hexlet.code.model.TaskHistoryEntry;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public abstract class TaskHistoryMapper {
+
+    @Mapping(target = "field", source = "fieldName")
+    public abstract TaskHistoryEntryDTO map(TaskHistoryEntry model);
+}
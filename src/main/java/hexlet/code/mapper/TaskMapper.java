@@ -52,7 +52,8 @@ public abstract class TaskMapper {
     public abstract TaskDTO map(Task model);
 
     @Mapping(target = "assignee", source = "assigneeId")
-    @Mapping(target = "taskStatus.slug", source = "status")
+    // The status is looked up by slug in TaskService, mapping it here would rename the current one
+    @Mapping(target = "taskStatus", ignore = true)
     @Mapping(target = "labels", source = "taskLabelIds")
     @Mapping(target = "name", source = "title")
     @Mapping(target = "description", source = "content")
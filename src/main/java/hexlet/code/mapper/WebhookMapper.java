@@ -0,0 +1,43 @@
+package hexlet.code.mapper;
+
+import hexlet.code.dto.WebhookCreateDTO;
+import hexlet.code.dto.WebhookDTO;
+import hexlet.code.dto.WebhookDeadLetterDTO;
+import hexlet.code.model.WebhookDeadLetter;
+import hexlet.code.model.WebhookSubscription;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+@Mapper(
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public abstract class WebhookMapper {
+
+    public abstract WebhookSubscription map(WebhookCreateDTO dto);
+
+    public abstract WebhookDTO map(WebhookSubscription model);
+
+    public abstract WebhookDeadLetterDTO map(WebhookDeadLetter model);
+
+    public String toEventTypes(List<String> eventTypes) {
+        return eventTypes == null ? "" : String.join(",", eventTypes.stream().distinct().toList());
+    }
+
+    public List<String> toEventTypes(String eventTypes) {
+        return eventTypes == null || eventTypes.isEmpty() ? List.of() : Arrays.asList(eventTypes.split(","));
+    }
+
+    public Date toDate(LocalDate createdAt) {
+        return java.util.Date.from(createdAt.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
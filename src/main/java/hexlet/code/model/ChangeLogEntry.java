@@ -0,0 +1,59 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * One write to a task, label, task status or user. The id doubles as the change sequence.
+ */
+@Entity
+@Table(name = "change_log")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+public class ChangeLogEntry implements BaseEntity {
+
+    public enum EntityType {
+        TASK,
+        LABEL,
+        TASK_STATUS,
+        USER
+    }
+
+    public enum Operation {
+        UPSERT,
+        DELETE
+    }
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    @NotNull
+    private Long entityId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private Operation operation;
+
+    @CreatedDate
+    private Instant createdAt;
+}
@@ -0,0 +1,66 @@
+package hexlet.code.model;
+
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * An outbox event some subscribers still failed on after the last pass, moved out of the outbox as it was.
+ */
+@Entity
+@Table(name = "outbox_dead_letters")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+public class OutboxDeadLetter implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long eventId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private EntityType aggregateType;
+
+    @NotNull
+    private Long aggregateId;
+
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private int attempts;
+
+    /**
+     * Comma separated subscribers that did not process the event.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String failedSubscribers;
+
+    /**
+     * When the event was written to the outbox.
+     */
+    private Instant occurredAt;
+
+    @CreatedDate
+    private Instant createdAt;
+}
@@ -0,0 +1,68 @@
+package hexlet.code.model;
+
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Domain event written in the transaction of the change it describes and removed once every
+ * subscriber has processed it.
+ */
+@Entity
+@Table(name = "outbox_events")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+public class OutboxEvent implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private EntityType aggregateType;
+
+    @NotNull
+    private Long aggregateId;
+
+    @NotBlank
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private int attempts;
+
+    /**
+     * When the event may be read next. A dispatcher reading it moves this past its claim timeout,
+     * which hides the event from other instances meanwhile.
+     */
+    @NotNull
+    private Instant availableAt;
+
+    /**
+     * Comma separated subscribers that have processed the event, which skip it on later passes.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String deliveredTo;
+
+    @CreatedDate
+    private Instant createdAt;
+}
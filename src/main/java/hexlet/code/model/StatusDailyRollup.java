@@ -0,0 +1,55 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Transitions into and out of one status during one UTC day.
+ */
+@Entity
+@Table(name = "status_daily_rollups", uniqueConstraints = @UniqueConstraint(columnNames = { "rollup_date", "status" }))
+@Getter
+@Setter
+@NoArgsConstructor
+public class StatusDailyRollup implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    private LocalDate rollupDate;
+
+    @NotBlank
+    private String status;
+
+    private long entered;
+
+    private long exited;
+
+    /**
+     * Exits whose time in the status is known, the ones {@link #totalSeconds} and {@link #maxSeconds} cover.
+     */
+    private long timedExits;
+
+    private long totalSeconds;
+
+    private long maxSeconds;
+
+    public StatusDailyRollup(LocalDate rollupDate, String status) {
+        this.rollupDate = rollupDate;
+        this.status = status;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,8 +15,10 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -23,7 +26,8 @@ import java.util.Set;
 import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
-@Table(name = "tasks")
+// Serves the board, which reads each status column in rank order
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_status_rank", columnList = "task_status_id, rank_key, id"))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -35,6 +39,11 @@ public class Task implements BaseEntity {
 
     private Integer index;
 
+    /**
+     * Position within the status column, see {@link hexlet.code.util.RankKeys}.
+     */
+    private String rankKey;
+
     @NotBlank
     private String name;
 
@@ -45,6 +54,12 @@ public class Task implements BaseEntity {
     @NotNull
     private TaskStatus taskStatus;
 
+    /**
+     * When the task entered its current status. Tasks older than status analytics get it at startup,
+     * see {@link hexlet.code.service.AnalyticsService#backfill()}.
+     */
+    private Instant statusChangedAt;
+
     @ManyToOne(fetch = FetchType.EAGER)
     private User assignee;
 
@@ -54,4 +69,7 @@ public class Task implements BaseEntity {
 
     @CreatedDate
     private LocalDate createdAt;
+
+    @LastModifiedDate
+    private Instant updatedAt;
 }
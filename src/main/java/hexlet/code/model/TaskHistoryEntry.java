@@ -0,0 +1,62 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Change of one task field. Rows are only ever inserted, by {@link hexlet.code.component.TaskHistoryWriter},
+ * and are kept after the task is deleted.
+ */
+@Entity
+@Table(name = "task_history")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskHistoryEntry implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long taskId;
+
+    @NotBlank
+    private String fieldName;
+
+    @Column(columnDefinition = "TEXT")
+    private String oldValue;
+
+    @Column(columnDefinition = "TEXT")
+    private String newValue;
+
+    /**
+     * Email of the user who made the change, {@code null} for changes made outside a request.
+     */
+    private String author;
+
+    @NotNull
+    private Instant createdAt;
+
+    public TaskHistoryEntry(Long taskId, String fieldName, String oldValue, String newValue,
+                            String author, Instant createdAt) {
+        this.taskId = taskId;
+        this.fieldName = fieldName;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.author = author;
+        this.createdAt = createdAt;
+    }
+}
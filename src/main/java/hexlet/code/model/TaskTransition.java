@@ -0,0 +1,63 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Status change of a task, written in the transaction of the change. The analytics aggregator
+ * adds it to the daily rollups and marks it aggregated; the row is kept as a record.
+ */
+@Entity
+@Table(name = "task_transitions",
+        indexes = @Index(name = "idx_task_transitions_pending", columnList = "aggregated, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskTransition implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long taskId;
+
+    /**
+     * Slug of the previous status, {@code null} when the task was created.
+     */
+    private String fromStatus;
+
+    /**
+     * Slug of the new status, {@code null} when the task was deleted.
+     */
+    private String toStatus;
+
+    /**
+     * Time spent in the previous status, {@code null} when it is not known.
+     */
+    private Long durationSeconds;
+
+    @NotNull
+    private Instant occurredAt;
+
+    private boolean aggregated;
+
+    public TaskTransition(Long taskId, String fromStatus, String toStatus, Long durationSeconds, Instant occurredAt) {
+        this.taskId = taskId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.durationSeconds = durationSeconds;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,70 @@
+package hexlet.code.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the authenticated user. Unlike {@link User} it carries no task list,
+ * so it is cheap to load and safe to cache.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"id"})
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final String passwordDigest;
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getPasswordDigest());
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordDigest;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * A batch that could not be delivered within the retry budget, kept as sent.
+ */
+@Entity
+@Table(name = "webhook_dead_letters")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+public class WebhookDeadLetter implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long subscriptionId;
+
+    private String url;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreatedDate
+    private Instant createdAt;
+}
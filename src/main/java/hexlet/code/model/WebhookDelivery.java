@@ -0,0 +1,59 @@
+package hexlet.code.model;
+
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * An event accepted for a webhook subscription and not yet sent or dead-lettered.
+ * Removed once the endpoint confirmed the batch or the batch was dead-lettered.
+ */
+@Entity
+@Table(name = "webhook_deliveries",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"subscription_id", "event_id"}))
+@Getter
+@Setter
+public class WebhookDelivery implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long subscriptionId;
+
+    /**
+     * Id of the outbox event.
+     */
+    @NotNull
+    private Long eventId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private EntityType aggregateType;
+
+    @NotNull
+    private Long aggregateId;
+
+    @NotBlank
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private Instant occurredAt;
+}
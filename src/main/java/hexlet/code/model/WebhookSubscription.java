@@ -0,0 +1,45 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+@Entity
+@Table(name = "webhook_subscriptions")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+public class WebhookSubscription implements BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotBlank
+    private String url;
+
+    /**
+     * Key for the HMAC signature of every delivery.
+     */
+    @NotBlank
+    private String secret;
+
+    /**
+     * Comma separated event types, empty for all task events.
+     */
+    private String eventTypes = "";
+
+    @CreatedDate
+    private LocalDate createdAt;
+}
@@ -0,0 +1,47 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    @Query("select max(c.id) from ChangeLogEntry c")
+    Optional<Long> findMaxSeq();
+
+    @Query("select min(c.id) from ChangeLogEntry c")
+    Optional<Long> findMinSeq();
+
+    /**
+     * The latest settled change of every entity written after {@code since} and before {@code before},
+     * in sequence order.
+     */
+    @Query("select c from ChangeLogEntry c where c.id > :since and c.id < :before"
+            + " and c.createdAt < :settledBefore"
+            + " and c.id in (select max(l.id) from ChangeLogEntry l where l.id > :since and l.id < :before"
+            + " group by l.entityType, l.entityId)"
+            + " order by c.id")
+    List<ChangeLogEntry> findLatestSince(@Param("since") long since,
+                                         @Param("before") long before,
+                                         @Param("settledBefore") Instant settledBefore,
+                                         Pageable pageable);
+
+    /**
+     * Keeps the newest entry, so the retained range always tells how far the log was purged.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from ChangeLogEntry c where c.createdAt < :before"
+            + " and c.id < (select max(l.id) from ChangeLogEntry l)")
+    int deleteOlderThan(@Param("before") Instant before);
+}
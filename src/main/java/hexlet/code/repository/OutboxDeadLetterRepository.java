@@ -0,0 +1,9 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.OutboxDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+}
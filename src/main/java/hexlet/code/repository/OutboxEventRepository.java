@@ -0,0 +1,36 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the rows it returns and skips rows other transactions hold, FOR UPDATE SKIP LOCKED
+     * where the database supports it. Call within a transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.availableAt <= :now order by e.id")
+    List<OutboxEvent> findReady(@Param("now") Instant now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
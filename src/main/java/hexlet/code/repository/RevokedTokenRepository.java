@@ -0,0 +1,25 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    boolean existsByJti(String jti);
+
+    @Query("select t.jti from RevokedToken t where t.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,36 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.CycleTimeDTO;
+import hexlet.code.model.StatusDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StatusDailyRollupRepository extends JpaRepository<StatusDailyRollup, Long> {
+
+    List<StatusDailyRollup> findByRollupDateIn(Collection<LocalDate> dates);
+
+    List<StatusDailyRollup> findByRollupDateBetweenOrderByRollupDate(LocalDate from, LocalDate to);
+
+    /**
+     * Tasks in each status at the start of the day, as [status, count].
+     */
+    @Query("""
+            select r.status, sum(r.entered) - sum(r.exited) from StatusDailyRollup r
+            where r.rollupDate < :date group by r.status
+            """)
+    List<Object[]> findBalancesBefore(@Param("date") LocalDate date);
+
+    @Query("""
+            select new hexlet.code.dto.CycleTimeDTO(r.status, sum(r.timedExits), sum(r.totalSeconds), max(r.maxSeconds))
+            from StatusDailyRollup r where r.rollupDate between :from and :to
+            group by r.status having sum(r.timedExits) > 0 order by r.status
+            """)
+    List<CycleTimeDTO> findCycleTimes(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
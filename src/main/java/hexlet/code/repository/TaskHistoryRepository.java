@@ -0,0 +1,12 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskHistoryEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskHistoryRepository extends JpaRepository<TaskHistoryEntry, Long> {
+    Page<TaskHistoryEntry> findByTaskId(Long taskId, Pageable pageable);
+}
@@ -3,11 +3,29 @@ package hexlet.code.repository;
 import hexlet.code.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     Optional<Task> findByName(String title);
+
+    @Query("select max(t.rankKey) from Task t where t.taskStatus.id = :statusId")
+    Optional<String> findMaxRankKey(@Param("statusId") Long statusId);
+
+    Optional<Task> findFirstByTaskStatusIdAndRankKeyGreaterThanAndIdNotOrderByRankKeyAsc(Long statusId,
+                                                                                        String rankKey, Long id);
+
+    Optional<Task> findFirstByTaskStatusIdAndRankKeyLessThanAndIdNotOrderByRankKeyDesc(Long statusId,
+                                                                                      String rankKey, Long id);
+
+    @Query("select distinct t.taskStatus.id from Task t where t.rankKey is null")
+    List<Long> findStatusIdsWithUnrankedTasks();
+
+    @Query("select distinct t.taskStatus.id from Task t where length(t.rankKey) > :maxLength")
+    List<Long> findStatusIdsWithRankKeysLongerThan(@Param("maxLength") int maxLength);
 }
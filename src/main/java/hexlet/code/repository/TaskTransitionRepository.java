@@ -0,0 +1,22 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskTransition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskTransitionRepository extends JpaRepository<TaskTransition, Long> {
+
+    /**
+     * Locks the rows, so that aggregators of other instances wait and then skip them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TaskTransition t where t.aggregated = false order by t.id")
+    List<TaskTransition> findPending(Pageable pageable);
+}
@@ -1,7 +1,10 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.User;
+import hexlet.code.model.UserPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +12,13 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select u.email from User u where u.id = :id")
+    Optional<String> findEmailById(@Param("id") Long id);
+
+    @Query("""
+            select new hexlet.code.model.UserPrincipal(u.id, u.email, u.firstName, u.lastName, u.passwordDigest)
+            from User u where u.email = :email
+            """)
+    Optional<UserPrincipal> findPrincipalByEmail(@Param("email") String email);
 }
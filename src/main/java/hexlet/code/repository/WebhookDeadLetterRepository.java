@@ -0,0 +1,12 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.WebhookDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WebhookDeadLetterRepository extends JpaRepository<WebhookDeadLetter, Long> {
+    List<WebhookDeadLetter> findBySubscriptionIdOrderByIdDesc(Long subscriptionId);
+}
@@ -0,0 +1,37 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.WebhookDelivery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long> {
+
+    boolean existsBySubscriptionIdAndEventId(Long subscriptionId, Long eventId);
+
+    @Query("select d from WebhookDelivery d where d.subscriptionId = :subscriptionId and d.id > :after order by d.id")
+    List<WebhookDelivery> findPending(@Param("subscriptionId") Long subscriptionId,
+                                      @Param("after") long after,
+                                      Pageable pageable);
+
+    @Query("select distinct d.subscriptionId from WebhookDelivery d")
+    List<Long> findSubscriptionIds();
+
+    @Transactional
+    @Modifying
+    @Query("delete from WebhookDelivery d where d.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("delete from WebhookDelivery d where d.subscriptionId = :subscriptionId")
+    int deleteBySubscriptionId(@Param("subscriptionId") Long subscriptionId);
+}
@@ -0,0 +1,190 @@
+package hexlet.code.service;
+
+import hexlet.code.component.AnalyticsProperties;
+import hexlet.code.dto.CycleTimeDTO;
+import hexlet.code.dto.FlowDayDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskTransition;
+import hexlet.code.repository.StatusDailyRollupRepository;
+import hexlet.code.repository.TaskTransitionRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Records status transitions of tasks and reports on the daily rollups built from them
+ * by {@link hexlet.code.component.AnalyticsAggregator}. Reports read only the rollups,
+ * so their cost depends on the number of days and statuses, not on the number of transitions.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class AnalyticsService {
+
+    private static final String SELECT_UNTRACKED_SQL = "SELECT t.id, s.slug, t.created_at FROM tasks t"
+            + " JOIN task_statuses s ON s.id = t.task_status_id"
+            + " WHERE t.status_changed_at IS NULL AND t.id > ? ORDER BY t.id LIMIT ?";
+
+    private static final String TRACK_SQL = "UPDATE tasks SET status_changed_at = ?"
+            + " WHERE id = ? AND status_changed_at IS NULL";
+
+    private static final String TRANSITION_SQL = "INSERT INTO task_transitions"
+            + " (task_id, from_status, to_status, duration_seconds, occurred_at, aggregated)"
+            + " VALUES (?, NULL, ?, NULL, ?, FALSE)";
+
+    private final TaskTransitionRepository taskTransitionRepository;
+
+    private final StatusDailyRollupRepository statusDailyRollupRepository;
+
+    private final AnalyticsProperties properties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Call before the task is first saved.
+     */
+    public void prepareCreated(Task task) {
+        task.setStatusChangedAt(Instant.now());
+    }
+
+    /**
+     * Call after the task has been saved, so that it has an id.
+     */
+    public void recordCreated(Task task) {
+        taskTransitionRepository.save(new TaskTransition(task.getId(), null, task.getTaskStatus().getSlug(),
+                null, task.getStatusChangedAt()));
+    }
+
+    /**
+     * Call once the task has its new status.
+     */
+    public void recordStatusChanged(Task task, String previousStatus) {
+        var now = Instant.now();
+        taskTransitionRepository.save(new TaskTransition(task.getId(), previousStatus, task.getTaskStatus().getSlug(),
+                secondsSince(task.getStatusChangedAt(), now), now));
+        task.setStatusChangedAt(now);
+    }
+
+    public void recordDeleted(Task task) {
+        var now = Instant.now();
+        taskTransitionRepository.save(new TaskTransition(task.getId(), task.getTaskStatus().getSlug(), null,
+                secondsSince(task.getStatusChangedAt(), now), now));
+    }
+
+    /**
+     * Gives tasks created before transitions were recorded, or written with plain SQL, the
+     * transition that brings them into their current status, dated at their creation. Without it
+     * the flow report never counts them and their first move leaves a status they never entered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        var total = 0;
+        var lastId = 0L;
+        while (true) {
+            var rows = jdbcTemplate.query(SELECT_UNTRACKED_SQL, (resultSet, rowNum) -> new Object[] {
+                resultSet.getLong(1), resultSet.getString(2), resultSet.getDate(3)
+            }, lastId, properties.getBatchSize());
+            if (rows.isEmpty()) {
+                break;
+            }
+            total += transactionTemplate.execute(status -> track(rows));
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        if (total > 0) {
+            log.info("Recorded entry transitions for {} tasks", total);
+        }
+    }
+
+    private int track(List<Object[]> rows) {
+        var now = Instant.now();
+        var updates = new ArrayList<Object[]>(rows.size());
+        for (var row : rows) {
+            var createdAt = (Date) row[2];
+            var enteredAt = createdAt == null ? now : createdAt.toLocalDate().atStartOfDay().toInstant(ZoneOffset.UTC);
+            updates.add(new Object[] {Timestamp.from(enteredAt), row[0], row[1]});
+        }
+
+        var counts = jdbcTemplate.batchUpdate(TRACK_SQL, updates.stream()
+                .map(update -> new Object[] {update[0], update[1]})
+                .toList());
+        // A task moved meanwhile already recorded its transition
+        var transitions = new ArrayList<Object[]>(rows.size());
+        for (var i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                var update = updates.get(i);
+                transitions.add(new Object[] {update[1], update[2], update[0]});
+            }
+        }
+        jdbcTemplate.batchUpdate(TRANSITION_SQL, transitions);
+        return transitions.size();
+    }
+
+    /**
+     * Cumulative flow: the number of tasks in each status at the end of every day of the range.
+     */
+    public List<FlowDayDTO> getFlow(LocalDate from, LocalDate to) {
+        var range = normalizeRange(from, to);
+
+        var balances = new TreeMap<String, Long>();
+        for (var row : statusDailyRollupRepository.findBalancesBefore(range.from())) {
+            balances.put((String) row[0], ((Number) row[1]).longValue());
+        }
+
+        var rollups = statusDailyRollupRepository.findByRollupDateBetweenOrderByRollupDate(range.from(), range.to());
+        var days = new ArrayList<FlowDayDTO>();
+        var next = 0;
+        for (var day = range.from(); !day.isAfter(range.to()); day = day.plusDays(1)) {
+            while (next < rollups.size() && rollups.get(next).getRollupDate().equals(day)) {
+                var rollup = rollups.get(next++);
+                balances.merge(rollup.getStatus(), rollup.getEntered() - rollup.getExited(), Long::sum);
+            }
+            days.add(new FlowDayDTO(day, new TreeMap<>(balances)));
+        }
+        return days;
+    }
+
+    /**
+     * Average and longest time in each status, over the tasks that left it during the range.
+     */
+    public List<CycleTimeDTO> getCycleTimes(LocalDate from, LocalDate to) {
+        var range = normalizeRange(from, to);
+        return statusDailyRollupRepository.findCycleTimes(range.from(), range.to());
+    }
+
+    private Range normalizeRange(LocalDate from, LocalDate to) {
+        var end = to == null ? LocalDate.now(ZoneOffset.UTC) : to;
+        var start = from == null ? end.minusDays(properties.getDefaultDays() - 1) : from;
+        if (start.isAfter(end)) {
+            throw new BadRequestException(String.format("Range start %s is after its end %s", start, end));
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= properties.getMaxDays()) {
+            throw new BadRequestException(String.format("Range is longer than %s days", properties.getMaxDays()));
+        }
+        return new Range(start, end);
+    }
+
+    private static Long secondsSince(Instant since, Instant now) {
+        return since == null ? null : Math.max(0, Duration.between(since, now).toSeconds());
+    }
+
+    private record Range(LocalDate from, LocalDate to) {
+    }
+}
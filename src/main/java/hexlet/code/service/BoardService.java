@@ -0,0 +1,173 @@
+package hexlet.code.service;
+
+import hexlet.code.component.BoardProperties;
+import hexlet.code.dto.BoardColumnDTO;
+import hexlet.code.dto.BoardDTO;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskStatusRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Builds the board in one round trip: every status column gets its task count and first tasks
+ * from a single window query over the (task_status_id, rank_key, id) index, and further pages
+ * are read with keyset cursors instead of offsets.
+ */
+@Service
+@AllArgsConstructor
+public class BoardService {
+
+    private static final String COLUMNS = "t.id, t.index, t.rank_key, t.name, t.description, t.created_at,"
+            + " t.assignee_id, t.task_status_id";
+
+    // NULLS LAST is the default of a PostgreSQL index, H2 has to be told
+    private static final String ORDER = "t.rank_key ASC NULLS LAST, t.id ASC";
+
+    private static final String BOARD_SQL = "SELECT * FROM (SELECT " + COLUMNS + ","
+            + " ROW_NUMBER() OVER (PARTITION BY t.task_status_id ORDER BY " + ORDER + ") AS row_num,"
+            + " COUNT(*) OVER (PARTITION BY t.task_status_id) AS column_size"
+            + " FROM tasks t) ranked WHERE row_num <= :limit ORDER BY task_status_id, row_num";
+
+    private static final String COLUMN_SQL = "SELECT " + COLUMNS + " FROM tasks t"
+            + " WHERE t.task_status_id = :statusId%s ORDER BY " + ORDER + " LIMIT :limit";
+
+    private static final String AFTER_RANK = " AND (t.rank_key > :rank OR (t.rank_key = :rank AND t.id > :id)"
+            + " OR t.rank_key IS NULL)";
+
+    private static final String AFTER_NULL_RANK = " AND t.rank_key IS NULL AND t.id > :id";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM tasks t WHERE t.task_status_id = :statusId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TaskStatusRepository taskStatusRepository;
+
+    private final TaskMapper taskMapper;
+
+    private final BoardProperties properties;
+
+    public BoardDTO getBoard(Integer limit) {
+        var pageSize = normalizeLimit(limit);
+        var columns = new LinkedHashMap<Long, BoardColumnDTO>();
+        for (var taskStatus : taskStatusRepository.findAll(Sort.by("id"))) {
+            columns.put(taskStatus.getId(), toColumn(taskStatus));
+        }
+
+        jdbcTemplate.query(BOARD_SQL, new MapSqlParameterSource("limit", pageSize), rs -> {
+            var column = columns.get(rs.getLong("task_status_id"));
+            if (column != null) {
+                column.setCount(rs.getLong("column_size"));
+                column.getTasks().add(mapTask(rs, column.getSlug()));
+                if (column.getCount() > column.getTasks().size()) {
+                    column.setNextCursor(toCursor(rs));
+                } else {
+                    column.setNextCursor(null);
+                }
+            }
+        });
+
+        return new BoardDTO(List.copyOf(columns.values()));
+    }
+
+    /**
+     * Next page of one column, the tasks after the cursor.
+     */
+    public BoardColumnDTO getColumn(Long statusId, String cursor, Integer limit) {
+        var taskStatus = taskStatusRepository.findById(statusId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Task status with id %s not found", statusId)));
+        var pageSize = normalizeLimit(limit);
+        var column = toColumn(taskStatus);
+
+        var params = new MapSqlParameterSource("statusId", statusId)
+                .addValue("limit", pageSize + 1);
+        var condition = "";
+        if (cursor != null) {
+            var position = parseCursor(cursor);
+            params.addValue("rank", position.rank()).addValue("id", position.id());
+            condition = position.rank() == null ? AFTER_NULL_RANK : AFTER_RANK;
+        }
+
+        // One row past the page tells whether there is a next page
+        var rows = jdbcTemplate.query(String.format(COLUMN_SQL, condition), params,
+                (rs, rowNum) -> new Row(mapTask(rs, taskStatus.getSlug()), toCursor(rs)));
+        var page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        column.setTasks(page.stream().map(Row::task).toList());
+        if (rows.size() > pageSize) {
+            column.setNextCursor(page.get(pageSize - 1).cursor());
+        }
+        column.setCount(jdbcTemplate.queryForObject(COUNT_SQL, params, Long.class));
+        return column;
+    }
+
+    private int normalizeLimit(Integer limit) {
+        return limit == null ? properties.getDefaultLimit() : Math.max(1, Math.min(limit, properties.getMaxLimit()));
+    }
+
+    private static BoardColumnDTO toColumn(TaskStatus taskStatus) {
+        var column = new BoardColumnDTO();
+        column.setStatusId(taskStatus.getId());
+        column.setName(taskStatus.getName());
+        column.setSlug(taskStatus.getSlug());
+        return column;
+    }
+
+    private TaskDTO mapTask(ResultSet rs, String slug) throws SQLException {
+        var dto = new TaskDTO();
+        dto.setId(rs.getLong("id"));
+        var index = rs.getObject("index", Integer.class);
+        if (index != null) {
+            dto.setIndex(index);
+        }
+        dto.setTitle(rs.getString("name"));
+        dto.setContent(rs.getString("description"));
+        var createdAt = rs.getObject("created_at", LocalDate.class);
+        if (createdAt != null) {
+            dto.setCreatedAt(taskMapper.toDate(createdAt));
+        }
+        dto.setAssigneeId(rs.getObject("assignee_id", Long.class));
+        dto.setStatus(slug);
+        return dto;
+    }
+
+    /**
+     * Position of the current row, tasks not ranked yet come last.
+     */
+    private static String toCursor(ResultSet rs) throws SQLException {
+        var rank = rs.getString("rank_key");
+        var value = (rank == null ? "" : rank) + ":" + rs.getLong("id");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position parseCursor(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = value.indexOf(':');
+            var rank = value.substring(0, separator);
+            return new Position(rank.isEmpty() ? null : rank, Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private record Position(String rank, Long id) {
+    }
+
+    private record Row(TaskDTO task, String cursor) {
+    }
+}
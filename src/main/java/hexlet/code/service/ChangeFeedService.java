@@ -0,0 +1,174 @@
+package hexlet.code.service;
+
+import hexlet.code.component.ChangeFeedProperties;
+import hexlet.code.dto.ChangeDTO;
+import hexlet.code.dto.ChangeFeedDTO;
+import hexlet.code.exception.ChangeFeedExpiredException;
+import hexlet.code.mapper.LabelMapper;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.mapper.UserMapper;
+import hexlet.code.model.ChangeLogEntry;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.ChangeLogEntry.Operation;
+import hexlet.code.repository.ChangeLogRepository;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * Records every write in a sequenced change log and serves it back as a deduplicated
+ * feed of upserts and tombstones, so clients can sync deltas instead of full snapshots.
+ */
+@Service
+@AllArgsConstructor
+public class ChangeFeedService {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    private final ChangeFeedProperties properties;
+
+    private final TaskRepository taskRepository;
+
+    private final LabelRepository labelRepository;
+
+    private final TaskStatusRepository taskStatusRepository;
+
+    private final UserRepository userRepository;
+
+    private final TaskMapper taskMapper;
+
+    private final LabelMapper labelMapper;
+
+    private final TaskStatusMapper taskStatusMapper;
+
+    private final UserMapper userMapper;
+
+    /**
+     * Sequence numbers taken by transactions of this instance that have not finished yet,
+     * the feed never hands out a cursor at or past the lowest of them.
+     */
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+    /**
+     * Expected to run inside the transaction of the write, so the entry commits or rolls back with it.
+     */
+    public void record(EntityType entityType, Long entityId, Operation operation) {
+        var entry = new ChangeLogEntry();
+        entry.setEntityType(entityType);
+        entry.setEntityId(entityId);
+        entry.setOperation(operation);
+        changeLogRepository.save(entry);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            var seq = entry.getId();
+            inFlight.add(seq);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.remove(seq);
+                }
+            });
+        }
+    }
+
+    /**
+     * Without {@code since} only the current sequence is returned, to be used as the cursor
+     * for a client that has just loaded a full snapshot.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO getChanges(Long since, Integer limit) {
+        // Read before the log, a transaction that finishes in between only makes the bound stricter
+        var visibleBefore = inFlight.isEmpty() ? Long.MAX_VALUE : inFlight.first();
+        if (since == null) {
+            var maxSeq = changeLogRepository.findMaxSeq().orElse(0L);
+            return new ChangeFeedDTO(Math.min(maxSeq, visibleBefore - 1), false, List.of());
+        }
+
+        var minSeq = changeLogRepository.findMinSeq();
+        if (minSeq.isPresent() && since < minSeq.get() - 1) {
+            throw new ChangeFeedExpiredException(
+                    String.format("Changes after %s are no longer available, a full resync is required", since));
+        }
+
+        var pageSize = Math.max(1, Math.min(limit == null ? properties.getDefaultLimit() : limit,
+                properties.getMaxLimit()));
+        var settledBefore = Instant.now().minus(properties.getSettleTime());
+        var entries = changeLogRepository.findLatestSince(since, visibleBefore, settledBefore,
+                PageRequest.of(0, pageSize + 1));
+
+        var hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        var payloads = loadPayloads(entries);
+        var changes = entries.stream()
+                .map(entry -> {
+                    var data = entry.getOperation() == Operation.UPSERT
+                            ? payloads.get(entry.getEntityType()).get(entry.getEntityId())
+                            : null;
+                    // Rows removed without going through a service have no tombstone of their own
+                    var operation = data == null ? Operation.DELETE : Operation.UPSERT;
+                    return new ChangeDTO(entry.getId(), entry.getEntityType().name().toLowerCase(),
+                            entry.getEntityId(), operation.name().toLowerCase(), data);
+                })
+                .toList();
+
+        var lastSeq = entries.isEmpty() ? since : entries.get(entries.size() - 1).getId();
+        return new ChangeFeedDTO(lastSeq, hasMore, changes);
+    }
+
+    @Scheduled(fixedDelayString = "${change-feed.purge-interval:PT1H}")
+    public void purge() {
+        purgeOlderThan(Instant.now().minus(properties.getRetention()));
+    }
+
+    public int purgeOlderThan(Instant before) {
+        return changeLogRepository.deleteOlderThan(before);
+    }
+
+    private Map<EntityType, Map<Long, Object>> loadPayloads(List<ChangeLogEntry> entries) {
+        var ids = new EnumMap<EntityType, Set<Long>>(EntityType.class);
+        for (var type : EntityType.values()) {
+            ids.put(type, entries.stream()
+                    .filter(entry -> entry.getEntityType() == type && entry.getOperation() == Operation.UPSERT)
+                    .map(ChangeLogEntry::getEntityId)
+                    .collect(Collectors.toSet()));
+        }
+
+        var payloads = new EnumMap<EntityType, Map<Long, Object>>(EntityType.class);
+        payloads.put(EntityType.TASK, new HashMap<>());
+        taskRepository.findAllById(ids.get(EntityType.TASK))
+                .forEach(task -> payloads.get(EntityType.TASK).put(task.getId(), taskMapper.map(task)));
+        payloads.put(EntityType.LABEL, new HashMap<>());
+        labelRepository.findAllById(ids.get(EntityType.LABEL))
+                .forEach(label -> payloads.get(EntityType.LABEL).put(label.getId(), labelMapper.map(label)));
+        payloads.put(EntityType.TASK_STATUS, new HashMap<>());
+        taskStatusRepository.findAllById(ids.get(EntityType.TASK_STATUS))
+                .forEach(status -> payloads.get(EntityType.TASK_STATUS)
+                        .put(status.getId(), taskStatusMapper.map(status)));
+        payloads.put(EntityType.USER, new HashMap<>());
+        userRepository.findAllById(ids.get(EntityType.USER))
+                .forEach(user -> payloads.get(EntityType.USER).put(user.getId(), userMapper.map(user)));
+        return payloads;
+    }
+}
@@ -1,6 +1,6 @@
 package hexlet.code.service;
 
-import hexlet.code.repository.UserRepository;
+import hexlet.code.component.UserPrincipalCache;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class CustomUserDetailsService implements UserDetailsManager {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public void createUser(UserDetails user) {
@@ -40,7 +40,10 @@ public class CustomUserDetailsService implements UserDetailsManager {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        var user = userPrincipalCache.get(email);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return user;
     }
 }
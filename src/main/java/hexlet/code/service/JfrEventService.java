@@ -0,0 +1,64 @@
+package hexlet.code.service;
+
+import hexlet.code.component.JfrProperties;
+import hexlet.code.dto.JfrEventsDTO;
+import hexlet.code.jfr.JwtEvent;
+import hexlet.code.jfr.PasswordHashEvent;
+import hexlet.code.jfr.TaskMappingEvent;
+import hexlet.code.jfr.TaskOperationEvent;
+import hexlet.code.jfr.TaskQueryEvent;
+import jakarta.annotation.PostConstruct;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Name;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Switches the domain Flight Recorder events on and off. Registered events are written by any
+ * recording that enables them, for example {@code jcmd <pid> JFR.start settings=profile}; unregistered
+ * events are skipped by {@code shouldCommit()}, so they cost an object allocation at most.
+ */
+@Service
+public class JfrEventService {
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            TaskOperationEvent.class,
+            TaskQueryEvent.class,
+            TaskMappingEvent.class,
+            JwtEvent.class,
+            PasswordHashEvent.class);
+
+    private final JfrProperties properties;
+
+    private volatile boolean enabled;
+
+    public JfrEventService(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void init() {
+        setEnabled(properties.isEventsEnabled());
+    }
+
+    public JfrEventsDTO getState() {
+        var names = EVENTS.stream()
+                .map(event -> event.getAnnotation(Name.class).value())
+                .toList();
+        return new JfrEventsDTO(enabled, names);
+    }
+
+    public JfrEventsDTO setEnabled(boolean value) {
+        for (var event : EVENTS) {
+            if (value) {
+                FlightRecorder.register(event);
+            } else {
+                FlightRecorder.unregister(event);
+            }
+        }
+        enabled = value;
+        return getState();
+    }
+}
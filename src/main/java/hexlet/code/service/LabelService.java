@@ -5,9 +5,12 @@ import hexlet.code.dto.LabelDTO;
 import hexlet.code.dto.LabelUpdateDTO;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.LabelMapper;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.ChangeLogEntry.Operation;
 import hexlet.code.repository.LabelRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,6 +22,10 @@ public class LabelService {
 
     private final LabelMapper labelMapper;
 
+    private final ChangeFeedService changeFeedService;
+
+    private final OutboxService outboxService;
+
     public List<LabelDTO> getAll() {
         var labels = labelRepository.findAll();
         return labels.stream()
@@ -26,11 +33,15 @@ public class LabelService {
                 .toList();
     }
 
+    @Transactional
     public LabelDTO create(LabelCreateDTO labelData) {
         var label = labelMapper.map(labelData);
         labelRepository.save(label);
+        changeFeedService.record(EntityType.LABEL, label.getId(), Operation.UPSERT);
 
-        return labelMapper.map(label);
+        var dto = labelMapper.map(label);
+        outboxService.append(EntityType.LABEL, label.getId(), "created", dto);
+        return dto;
     }
 
     public LabelDTO findById(Long id) {
@@ -39,16 +50,25 @@ public class LabelService {
         return labelMapper.map(label);
     }
 
+    @Transactional
     public LabelDTO update(LabelUpdateDTO labelData, Long id) {
         var label = labelRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Label with id %s not found", id)));
         labelMapper.update(labelData, label);
         labelRepository.save(label);
+        changeFeedService.record(EntityType.LABEL, label.getId(), Operation.UPSERT);
 
-        return labelMapper.map(label);
+        var dto = labelMapper.map(label);
+        outboxService.append(EntityType.LABEL, label.getId(), "updated", dto);
+        return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        labelRepository.deleteById(id);
+        labelRepository.findById(id).ifPresent(label -> {
+            labelRepository.delete(label);
+            changeFeedService.record(EntityType.LABEL, id, Operation.DELETE);
+            outboxService.append(EntityType.LABEL, id, "deleted", labelMapper.map(label));
+        });
     }
 }
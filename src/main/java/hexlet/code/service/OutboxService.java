@@ -0,0 +1,40 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.repository.OutboxEventRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Service
+@AllArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the event in the caller's transaction, so it exists exactly when the change does.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EntityType aggregateType, Long aggregateId, String action, Object payload) {
+        var event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(aggregateType.name().toLowerCase() + "." + action);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        event.setAvailableAt(Instant.now());
+        outboxEventRepository.save(event);
+    }
+}
@@ -0,0 +1,290 @@
+package hexlet.code.service;
+
+import hexlet.code.component.ProfilingProperties;
+import hexlet.code.dto.ProfileWindowDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a rolling CPU and allocation profile of the running application from a JFR event stream.
+ * Samples are folded into collapsed stacks, {@code root;...;leaf count} as read by flame graph tools,
+ * and counted per time window. Method names are stored once and stacks as arrays of their ids, so
+ * memory is bounded by the number of distinct methods and an estimated size per window.
+ */
+@Service
+public class ProfilingService {
+
+    public enum ProfileType {
+        CPU,
+        ALLOCATION
+    }
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private static final String OTHER_STACKS = "[other]";
+
+    private static final String TRUNCATED = "[truncated]";
+
+    private static final String UNKNOWN = "[unknown]";
+
+    private static final String OTHER_FRAMES = "[other frame]";
+
+    // Object header, array header, hash map entry and counter of a stack, frame ids come on top
+    private static final int STACK_OVERHEAD = 112;
+
+    // The stream only needs recent chunks on disk, the profile is kept in memory
+    private static final Duration STREAM_MAX_AGE = Duration.ofSeconds(30);
+
+    private final ProfilingProperties properties;
+
+    // Replaced, never modified, by the stream thread; the last window is the current one
+    private volatile List<Window> windows = List.of();
+
+    // Written by the stream thread only
+    private final Map<String, Integer> frameIds = new ConcurrentHashMap<>();
+
+    private final Map<Integer, String> frameNames = new ConcurrentHashMap<>();
+
+    private final Stack unknownStack;
+
+    private final Stack otherStack;
+
+    private RecordingStream stream;
+
+    public ProfilingService(ProfilingProperties properties) {
+        this.properties = properties;
+        this.unknownStack = new Stack(new int[] {intern(UNKNOWN)});
+        this.otherStack = new Stack(new int[] {intern(OTHER_STACKS)});
+        intern(OTHER_FRAMES);
+        intern(TRUNCATED);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.setMaxAge(STREAM_MAX_AGE);
+        stream.enable(EXECUTION_SAMPLE).withPeriod(properties.getCpuSamplePeriod());
+        stream.enable(ALLOCATION_SAMPLE).with("throttle", properties.getAllocationSamplesPerSecond() + "/s");
+        stream.onEvent(EXECUTION_SAMPLE, event -> record(event, ProfileType.CPU, 1));
+        stream.onEvent(ALLOCATION_SAMPLE, event -> record(event, ProfileType.ALLOCATION, event.getLong("weight")));
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public List<ProfileWindowDTO> getWindows() {
+        checkEnabled();
+        return windows.stream()
+                .map(window -> new ProfileWindowDTO(window.start, window.end,
+                        total(window.stacks(ProfileType.CPU)), total(window.stacks(ProfileType.ALLOCATION))))
+                .toList();
+    }
+
+    /**
+     * Returns the collapsed stacks of the last {@code count} windows, the current one included,
+     * most frequent first.
+     */
+    public String getCollapsedStacks(String type, int count) {
+        checkEnabled();
+        if (count < 1) {
+            throw new BadRequestException("Number of windows must be positive");
+        }
+        var profileType = parseType(type);
+
+        var snapshot = windows;
+        var merged = new HashMap<Stack, Long>();
+        for (var window : snapshot.subList(Math.max(0, snapshot.size() - count), snapshot.size())) {
+            window.stacks(profileType).forEach((stack, weight) -> merged.merge(stack, weight.sum(), Long::sum));
+        }
+        return merged.entrySet().stream()
+                .sorted(Map.Entry.<Stack, Long>comparingByValue().reversed())
+                .map(entry -> format(entry.getKey()) + " " + entry.getValue() + "\n")
+                .collect(Collectors.joining());
+    }
+
+    private void record(RecordedEvent event, ProfileType type, long weight) {
+        var window = getWindow(event.getStartTime());
+        window.add(type, collapse(event, type), weight, properties.getMaxWindowSize().toBytes(), otherStack);
+    }
+
+    /**
+     * Called on the stream thread only, so the rotation needs no lock.
+     */
+    private Window getWindow(Instant time) {
+        var current = windows.isEmpty() ? null : windows.get(windows.size() - 1);
+        // Late events of an older window are counted in the current one
+        if (current != null && time.isBefore(current.end)) {
+            return current;
+        }
+
+        var length = properties.getWindow().toMillis();
+        var start = Instant.ofEpochMilli(time.toEpochMilli() / length * length);
+        var window = new Window(start, start.plusMillis(length));
+        var next = new ArrayList<>(windows);
+        next.add(window);
+        if (next.size() > properties.getWindows()) {
+            next.subList(0, next.size() - properties.getWindows()).clear();
+        }
+        windows = List.copyOf(next);
+        return window;
+    }
+
+    private Stack collapse(RecordedEvent event, ProfileType type) {
+        var trace = event.getStackTrace();
+        if (trace == null || trace.getFrames().isEmpty()) {
+            return unknownStack;
+        }
+
+        var frames = trace.getFrames();
+        var depth = Math.min(frames.size(), properties.getMaxStackDepth());
+        var truncated = trace.isTruncated() || depth < frames.size();
+        var ids = new int[depth + (truncated ? 1 : 0) + (type == ProfileType.ALLOCATION ? 1 : 0)];
+        var next = 0;
+        if (truncated) {
+            ids[next++] = frameId(TRUNCATED);
+        }
+        // Frames come leaf first, collapsed stacks start at the root
+        for (var i = depth - 1; i >= 0; i--) {
+            var method = frames.get(i).getMethod();
+            ids[next++] = frameId(method.getType().getName() + "." + method.getName());
+        }
+        if (type == ProfileType.ALLOCATION) {
+            // Allocated class as the leaf, marked the way async-profiler marks it
+            ids[next] = frameId(event.getClass("objectClass").getName() + "_[k]");
+        }
+        return new Stack(ids);
+    }
+
+    private int frameId(String name) {
+        var id = frameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        return frameIds.size() < properties.getMaxFrames() ? intern(name) : frameIds.get(OTHER_FRAMES);
+    }
+
+    private int intern(String name) {
+        var id = frameIds.size();
+        frameNames.put(id, name);
+        frameIds.put(name, id);
+        return id;
+    }
+
+    private String format(Stack stack) {
+        var joined = new StringBuilder();
+        for (var id : stack.frames) {
+            if (!joined.isEmpty()) {
+                joined.append(';');
+            }
+            joined.append(frameNames.get(id));
+        }
+        return joined.toString();
+    }
+
+    private void checkEnabled() {
+        if (!properties.isEnabled()) {
+            throw new ResourceNotFoundException("Profiling is disabled");
+        }
+    }
+
+    private static ProfileType parseType(String type) {
+        try {
+            return ProfileType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(String.format("Unknown profile type %s, expected cpu or allocation", type));
+        }
+    }
+
+    private static long total(Map<Stack, LongAdder> stacks) {
+        return stacks.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static final class Window {
+
+        private final Instant start;
+
+        private final Instant end;
+
+        private final Map<Stack, LongAdder> cpu = new ConcurrentHashMap<>();
+
+        private final Map<Stack, LongAdder> allocation = new ConcurrentHashMap<>();
+
+        // Estimated size of both maps, written by the stream thread only
+        private long size;
+
+        private Window(Instant start, Instant end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private Map<Stack, LongAdder> stacks(ProfileType type) {
+            return type == ProfileType.CPU ? cpu : allocation;
+        }
+
+        private void add(ProfileType type, Stack stack, long weight, long maxSize, Stack other) {
+            var stacks = stacks(type);
+            var counter = stacks.get(stack);
+            if (counter == null) {
+                var stackSize = STACK_OVERHEAD + (long) Integer.BYTES * stack.frames.length;
+                if (size + stackSize <= maxSize) {
+                    size += stackSize;
+                    counter = new LongAdder();
+                    stacks.put(stack, counter);
+                } else {
+                    counter = stacks.computeIfAbsent(other, k -> new LongAdder());
+                }
+            }
+            counter.add(weight);
+        }
+    }
+
+    private static final class Stack {
+
+        private final int[] frames;
+
+        private final int hash;
+
+        private Stack(int[] frames) {
+            this.frames = frames;
+            this.hash = Arrays.hashCode(frames);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Stack stack && Arrays.equals(frames, stack.frames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
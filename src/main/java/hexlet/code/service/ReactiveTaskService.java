@@ -0,0 +1,67 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.specification.TaskSqlSpecification;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveTaskService {
+
+    private static final String SELECT = "SELECT t.id, t.index, t.name, t.description, t.created_at,"
+            + " t.assignee_id, s.slug FROM tasks t JOIN task_statuses s ON s.id = t.task_status_id";
+
+    private final DatabaseClient databaseClient;
+
+    private final TaskSqlSpecification specBuilder;
+
+    private final TaskMapper taskMapper;
+
+    public Flux<TaskDTO> getAll(TaskParamsDTO params) {
+        var where = specBuilder.build(params);
+        var spec = databaseClient.sql(SELECT + where.toSql() + " ORDER BY t.id");
+        for (var binding : where.getBindings().entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map(this::map).all();
+    }
+
+    public Mono<TaskDTO> findById(Long id) {
+        return databaseClient.sql(SELECT + " WHERE t.id = :id")
+                .bind("id", id)
+                .map(this::map)
+                .one()
+                .switchIfEmpty(Mono.error(
+                        () -> new ResourceNotFoundException(String.format("Task with id %s not found", id))));
+    }
+
+    private TaskDTO map(Readable row) {
+        var dto = new TaskDTO();
+        dto.setId(row.get("id", Long.class));
+        var index = row.get("index", Integer.class);
+        if (index != null) {
+            dto.setIndex(index);
+        }
+        dto.setTitle(row.get("name", String.class));
+        dto.setContent(row.get("description", String.class));
+        var createdAt = row.get("created_at", LocalDate.class);
+        if (createdAt != null) {
+            dto.setCreatedAt(taskMapper.toDate(createdAt));
+        }
+        dto.setAssigneeId(row.get("assignee_id", Long.class));
+        dto.setStatus(row.get("slug", String.class));
+        return dto;
+    }
+}
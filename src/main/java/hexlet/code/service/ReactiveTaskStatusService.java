@@ -0,0 +1,53 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskStatusDTO;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.TaskStatusMapper;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveTaskStatusService {
+
+    private static final String SELECT = "SELECT id, name, slug, created_at FROM task_statuses";
+
+    private final DatabaseClient databaseClient;
+
+    private final TaskStatusMapper taskStatusMapper;
+
+    public Flux<TaskStatusDTO> getAll() {
+        return databaseClient.sql(SELECT + " ORDER BY id")
+                .map(this::map)
+                .all();
+    }
+
+    public Mono<TaskStatusDTO> findById(Long id) {
+        return databaseClient.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(this::map)
+                .one()
+                .switchIfEmpty(Mono.error(
+                        () -> new ResourceNotFoundException(String.format("TaskStatus with id %s not found", id))));
+    }
+
+    private TaskStatusDTO map(Readable row) {
+        var dto = new TaskStatusDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setName(row.get("name", String.class));
+        dto.setSlug(row.get("slug", String.class));
+        var createdAt = row.get("created_at", LocalDate.class);
+        if (createdAt != null) {
+            dto.setCreatedAt(taskStatusMapper.toDate(createdAt));
+        }
+        return dto;
+    }
+}
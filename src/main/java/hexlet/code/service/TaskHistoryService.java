@@ -0,0 +1,135 @@
+package hexlet.code.service;
+
+import hexlet.code.component.TaskHistoryProperties;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskHistoryEntryDTO;
+import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.event.TaskHistoryEvent;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.TaskHistoryMapper;
+import hexlet.code.model.TaskHistoryEntry;
+import hexlet.code.repository.TaskHistoryRepository;
+import hexlet.code.repository.TaskRepository;
+import lombok.AllArgsConstructor;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class TaskHistoryService {
+
+    private final TaskRepository taskRepository;
+
+    private final TaskHistoryRepository taskHistoryRepository;
+
+    private final TaskHistoryMapper taskHistoryMapper;
+
+    private final TaskHistoryProperties properties;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void recordCreated(TaskDTO task, Set<Long> labelIds) {
+        var changes = new Changes(task.getId());
+        changes.add("index", null, task.getIndex());
+        changes.add("assignee_id", null, task.getAssigneeId());
+        changes.add("title", null, task.getTitle());
+        changes.add("content", null, task.getContent());
+        changes.add("status", null, task.getStatus());
+        changes.add("taskLabelIds", null, joinIds(labelIds));
+        changes.publish();
+    }
+
+    /**
+     * Records the fields sent in the update whose values actually changed.
+     */
+    public void recordUpdated(TaskUpdateDTO taskData, TaskDTO previous, Set<Long> previousLabelIds,
+                              TaskDTO task, Set<Long> labelIds) {
+        var changes = new Changes(task.getId());
+        if (isPresent(taskData.getIndex())) {
+            changes.add("index", previous.getIndex(), task.getIndex());
+        }
+        if (isPresent(taskData.getAssigneeId())) {
+            changes.add("assignee_id", previous.getAssigneeId(), task.getAssigneeId());
+        }
+        if (isPresent(taskData.getTitle())) {
+            changes.add("title", previous.getTitle(), task.getTitle());
+        }
+        if (isPresent(taskData.getContent())) {
+            changes.add("content", previous.getContent(), task.getContent());
+        }
+        if (isPresent(taskData.getStatus())) {
+            changes.add("status", previous.getStatus(), task.getStatus());
+        }
+        if (isPresent(taskData.getTaskLabelIds())) {
+            changes.add("taskLabelIds", joinIds(previousLabelIds), joinIds(labelIds));
+        }
+        changes.publish();
+    }
+
+    /**
+     * Newest changes first. Entries reach the table shortly after the change is committed.
+     */
+    public Page<TaskHistoryEntryDTO> getHistory(Long taskId, Integer page, Integer size) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException(String.format("Task with id %s not found", taskId));
+        }
+        var pageSize = size == null ? properties.getDefaultPageSize()
+                : Math.max(1, Math.min(size, properties.getMaxPageSize()));
+        var pageNumber = page == null ? 0 : Math.max(0, page);
+        var pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+        return taskHistoryRepository.findByTaskId(taskId, pageable)
+                .map(taskHistoryMapper::map);
+    }
+
+    private static boolean isPresent(JsonNullable<?> value) {
+        return value != null && value.isPresent();
+    }
+
+    private static String joinIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return ids.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private final class Changes {
+        private final Long taskId;
+        private final String author;
+        private final Instant createdAt = Instant.now();
+        private final List<TaskHistoryEntry> entries = new ArrayList<>();
+
+        private Changes(Long taskId) {
+            this.taskId = taskId;
+            var authentication = SecurityContextHolder.getContext().getAuthentication();
+            this.author = authentication == null ? null : authentication.getName();
+        }
+
+        private void add(String field, Object oldValue, Object newValue) {
+            if (!Objects.equals(oldValue, newValue)) {
+                entries.add(new TaskHistoryEntry(taskId, field, Objects.toString(oldValue, null),
+                        Objects.toString(newValue, null), author, createdAt));
+            }
+        }
+
+        private void publish() {
+            if (!entries.isEmpty()) {
+                eventPublisher.publishEvent(new TaskHistoryEvent(entries));
+            }
+        }
+    }
+}
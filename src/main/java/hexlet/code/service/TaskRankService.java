@@ -0,0 +1,139 @@
+package hexlet.code.service;
+
+import hexlet.code.component.TaskRankProperties;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.RankKeys;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Keeps the rank keys that order tasks within a status column. A move writes one key between
+ * the neighbours' keys under the column's lock, so moves in one column are serialized while
+ * columns on other stripes proceed in parallel. The lock is local to the instance: concurrent
+ * moves through different instances may produce equal keys, which the board orders by id and
+ * the next move into that gap resolves by rebalancing the column.
+ */
+@Service
+public class TaskRankService {
+
+    private static final String SELECT_COLUMN_SQL = "SELECT id FROM tasks WHERE task_status_id = ?"
+            + " ORDER BY rank_key ASC NULLS LAST, index ASC NULLS LAST, id ASC";
+
+    private static final String UPDATE_SQL = "UPDATE tasks SET rank_key = ? WHERE id = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TaskRankProperties properties;
+
+    private final ReentrantLock[] locks;
+
+    public TaskRankService(TaskRepository taskRepository, JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate, TaskRankProperties properties) {
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.locks = new ReentrantLock[properties.getLockStripes()];
+        for (var i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs the action holding the lock of the column. The action should commit its own transaction,
+     * so that the next move in the column sees its keys.
+     */
+    public <T> T withColumnLock(Long statusId, Supplier<T> action) {
+        var lock = locks[Math.floorMod(Long.hashCode(statusId), locks.length)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Key after the last task of the column.
+     */
+    public String lastRank(Long statusId) {
+        return RankKeys.between(taskRepository.findMaxRankKey(statusId).orElse(null), null);
+    }
+
+    /**
+     * Key for a task placed in a column after one task, before another, or both.
+     * The missing neighbour is looked up, without both the task goes to the end of the column.
+     *
+     * @throws IllegalArgumentException if there is no key left between the neighbours,
+     *                                  {@link #rebalance(Long)} makes room
+     */
+    public String rankBetween(Long taskId, Long statusId, Task after, Task before) {
+        if (after == null && before == null) {
+            return lastRank(statusId);
+        }
+        if (after != null && after.getRankKey() == null || before != null && before.getRankKey() == null) {
+            throw new IllegalArgumentException("Neighbour is not ranked yet");
+        }
+
+        String lower;
+        String upper;
+        if (before == null) {
+            lower = after.getRankKey();
+            upper = taskRepository.findFirstByTaskStatusIdAndRankKeyGreaterThanAndIdNotOrderByRankKeyAsc(
+                    statusId, lower, taskId).map(Task::getRankKey).orElse(null);
+        } else if (after == null) {
+            upper = before.getRankKey();
+            lower = taskRepository.findFirstByTaskStatusIdAndRankKeyLessThanAndIdNotOrderByRankKeyDesc(
+                    statusId, upper, taskId).map(Task::getRankKey).orElse(null);
+        } else {
+            lower = after.getRankKey();
+            upper = before.getRankKey();
+        }
+        return RankKeys.between(lower, upper);
+    }
+
+    /**
+     * Gives every task of the column a short, evenly spaced key, keeping the current order.
+     * Tasks without a key are placed last, by index.
+     */
+    public void rebalance(Long statusId) {
+        withColumnLock(statusId, () -> transactionTemplate.execute(status -> {
+            var ids = jdbcTemplate.queryForList(SELECT_COLUMN_SQL, Long.class, statusId);
+            var keys = RankKeys.evenlySpaced(ids.size());
+            var positions = IntStream.range(0, ids.size()).boxed().toList();
+            jdbcTemplate.batchUpdate(UPDATE_SQL, positions, BATCH_SIZE, (statement, position) -> {
+                statement.setString(1, keys.get(position));
+                statement.setLong(2, ids.get(position));
+            });
+            return ids.size();
+        }));
+    }
+
+    /**
+     * Ranks tasks created before rank keys existed, in their index order.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        taskRepository.findStatusIdsWithUnrankedTasks().forEach(this::rebalance);
+    }
+
+    @Scheduled(fixedDelayString = "${task-rank.rebalance-interval:PT10M}")
+    public void rebalanceLongKeys() {
+        taskRepository.findStatusIdsWithRankKeysLongerThan(properties.getMaxKeyLength()).forEach(this::rebalance);
+    }
+}
@@ -2,18 +2,34 @@ package hexlet.code.service;
 
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskMoveDTO;
 import hexlet.code.dto.TaskParamsDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.event.TaskEvent;
+import hexlet.code.exception.BadRequestException;
 import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.jfr.TaskQueryEvent;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.ChangeLogEntry.Operation;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.specification.TaskSpecification;
 import lombok.AllArgsConstructor;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -29,14 +45,37 @@ public class TaskService {
 
     private final TaskSpecification specBuilder;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ChangeFeedService changeFeedService;
+
+    private final OutboxService outboxService;
+
+    private final TaskHistoryService taskHistoryService;
+
+    private final TaskRankService taskRankService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AnalyticsService analyticsService;
+
     public List<TaskDTO> getAll(TaskParamsDTO params) {
         var spec = specBuilder.build(params);
+        var event = new TaskQueryEvent();
+        event.begin();
         var tasks = taskRepository.findAll(spec);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFilters(TaskQueryEvent.shape(params));
+            event.setRowCount(tasks.size());
+            event.commit();
+        }
         return tasks.stream()
                 .map(taskMapper::map)
                 .toList();
     }
 
+    @Transactional
     public TaskDTO create(TaskCreateDTO taskData) {
         var task = taskMapper.map(taskData);
 
@@ -51,9 +90,20 @@ public class TaskService {
         var taskStatus = taskStatusRepository.findBySlug(statusSlug).orElse(null);
 
         task.setTaskStatus(taskStatus);
+        if (taskStatus != null) {
+            task.setRankKey(taskRankService.lastRank(taskStatus.getId()));
+            analyticsService.prepareCreated(task);
+        }
 
         taskRepository.save(task);
-        return taskMapper.map(task);
+        analyticsService.recordCreated(task);
+        changeFeedService.record(EntityType.TASK, task.getId(), Operation.UPSERT);
+        var dto = taskMapper.map(task);
+        outboxService.append(EntityType.TASK, task.getId(), "created", dto);
+        var labelIds = getLabelIds(task);
+        taskHistoryService.recordCreated(dto, labelIds);
+        eventPublisher.publishEvent(TaskEvent.created(dto, labelIds));
+        return dto;
     }
 
     public TaskDTO findById(Long id) {
@@ -62,9 +112,12 @@ public class TaskService {
         return taskMapper.map(task);
     }
 
+    @Transactional
     public TaskDTO update(TaskUpdateDTO taskData, Long id) {
         var task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Task with id %s not found", id)));
+        var previous = taskMapper.map(task);
+        var previousLabelIds = getLabelIds(task);
 
         taskMapper.update(taskData, task);
         var statusSlug = taskData.getStatus();
@@ -72,13 +125,113 @@ public class TaskService {
         if (statusSlug != null) {
             var taskStatus = taskStatusRepository.findBySlug((statusSlug).get()).orElse(null);
             task.setTaskStatus(taskStatus);
+            if (taskStatus != null && !Objects.equals(previous.getStatus(), taskStatus.getSlug())) {
+                task.setRankKey(taskRankService.lastRank(taskStatus.getId()));
+                analyticsService.recordStatusChanged(task, previous.getStatus());
+            }
         }
 
         taskRepository.save(task);
-        return taskMapper.map(task);
+        changeFeedService.record(EntityType.TASK, task.getId(), Operation.UPSERT);
+        var dto = taskMapper.map(task);
+        outboxService.append(EntityType.TASK, task.getId(), "updated", dto);
+        var labelIds = getLabelIds(task);
+        taskHistoryService.recordUpdated(taskData, previous, previousLabelIds, dto, labelIds);
+        eventPublisher.publishEvent(TaskEvent.updated(previous, previousLabelIds, dto, labelIds));
+        return dto;
     }
 
+    /**
+     * Places the task between its new neighbours by giving it a rank key between theirs,
+     * no other task is written. The column stays locked until the transaction has committed.
+     */
+    public TaskDTO move(Long id, TaskMoveDTO moveData) {
+        var task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Task with id %s not found", id)));
+        var taskStatus = moveData.getStatus() == null
+                ? task.getTaskStatus()
+                : taskStatusRepository.findBySlug(moveData.getStatus())
+                        .orElseThrow(() -> new BadRequestException(
+                                String.format("Task status with slug %s not found", moveData.getStatus())));
+        if (taskStatus == null) {
+            throw new BadRequestException(String.format("Task with id %s has no status", id));
+        }
+
+        return taskRankService.withColumnLock(taskStatus.getId(), () -> {
+            try {
+                return transactionTemplate.execute(status -> doMove(id, moveData, taskStatus));
+            } catch (IllegalArgumentException e) {
+                // No key left between the neighbours, or they are not ranked yet
+                taskRankService.rebalance(taskStatus.getId());
+                return transactionTemplate.execute(status -> doMove(id, moveData, taskStatus));
+            }
+        });
+    }
+
+    private TaskDTO doMove(Long id, TaskMoveDTO moveData, TaskStatus taskStatus) {
+        var task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("Task with id %s not found", id)));
+        var previous = taskMapper.map(task);
+        var labelIds = getLabelIds(task);
+
+        var after = findNeighbour(moveData.getAfterId(), task, taskStatus);
+        var before = findNeighbour(moveData.getBeforeId(), task, taskStatus);
+        if (after != null && before != null && after.getRankKey() != null && before.getRankKey() != null
+                && after.getRankKey().compareTo(before.getRankKey()) > 0) {
+            throw new BadRequestException(String.format("Task with id %s comes after task with id %s",
+                    after.getId(), before.getId()));
+        }
+
+        task.setTaskStatus(taskStatus);
+        task.setRankKey(taskRankService.rankBetween(task.getId(), taskStatus.getId(), after, before));
+        if (!Objects.equals(previous.getStatus(), taskStatus.getSlug())) {
+            analyticsService.recordStatusChanged(task, previous.getStatus());
+        }
+        taskRepository.save(task);
+
+        changeFeedService.record(EntityType.TASK, task.getId(), Operation.UPSERT);
+        var dto = taskMapper.map(task);
+        outboxService.append(EntityType.TASK, task.getId(), "updated", dto);
+        var changes = new TaskUpdateDTO();
+        if (!Objects.equals(previous.getStatus(), dto.getStatus())) {
+            changes.setStatus(JsonNullable.of(dto.getStatus()));
+        }
+        taskHistoryService.recordUpdated(changes, previous, labelIds, dto, labelIds);
+        eventPublisher.publishEvent(TaskEvent.updated(previous, labelIds, dto, labelIds));
+        return dto;
+    }
+
+    private Task findNeighbour(Long neighbourId, Task task, TaskStatus taskStatus) {
+        if (neighbourId == null) {
+            return null;
+        }
+        if (neighbourId.equals(task.getId())) {
+            throw new BadRequestException("Task can not be moved next to itself");
+        }
+        var neighbour = taskRepository.findById(neighbourId)
+                .orElseThrow(() -> new BadRequestException(String.format("Task with id %s not found", neighbourId)));
+        if (neighbour.getTaskStatus() == null || !neighbour.getTaskStatus().getId().equals(taskStatus.getId())) {
+            throw new BadRequestException(String.format("Task with id %s is not in column %s",
+                    neighbourId, taskStatus.getSlug()));
+        }
+        return neighbour;
+    }
+
+    @Transactional
     public void delete(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            analyticsService.recordDeleted(task);
+            changeFeedService.record(EntityType.TASK, id, Operation.DELETE);
+            var dto = taskMapper.map(task);
+            outboxService.append(EntityType.TASK, id, "deleted", dto);
+            eventPublisher.publishEvent(TaskEvent.deleted(dto, getLabelIds(task)));
+        });
+    }
+
+    private Set<Long> getLabelIds(Task task) {
+        return task.getLabels().stream()
+                .map(Label::getId)
+                .collect(Collectors.toSet());
     }
 }
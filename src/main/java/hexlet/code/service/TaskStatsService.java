@@ -0,0 +1,184 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.TaskCountDTO;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskStatsDTO;
+import hexlet.code.event.TaskEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Task counts by status, assignee and label, kept in memory so that reading them costs no query.
+ * Committed task events adjust the counters; the counters are periodically recounted from the
+ * database, which picks up changes made by other instances or by cascading deletes.
+ * Events arriving during a recount are applied to the new counters as well, an event committed
+ * just before the recount query may be counted twice until the next recount.
+ */
+@Service
+public class TaskStatsService {
+
+    private static final String STATUS_ASSIGNEE_SQL = "SELECT s.slug, t.assignee_id, COUNT(*) AS task_count"
+            + " FROM tasks t JOIN task_statuses s ON s.id = t.task_status_id GROUP BY s.slug, t.assignee_id";
+
+    private static final String LABEL_SQL = "SELECT tl.labels_id, COUNT(*) AS task_count"
+            + " FROM tasks_labels tl GROUP BY tl.labels_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Counters counters = new Counters(null);
+
+    private volatile Counters rebuilding;
+
+    public TaskStatsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        apply(counters, event);
+        var next = rebuilding;
+        if (next != null) {
+            apply(next, event);
+        }
+    }
+
+    /**
+     * Runs on the scheduler right after startup and then every interval.
+     */
+    @Scheduled(fixedDelayString = "${task-stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        var next = new Counters(Instant.now());
+        rebuilding = next;
+        try {
+            jdbcTemplate.query(STATUS_ASSIGNEE_SQL, rs -> {
+                var cell = new Cell(rs.getString("slug"), rs.getObject("assignee_id", Long.class));
+                next.add(cell, rs.getLong("task_count"));
+            });
+            jdbcTemplate.query(LABEL_SQL, rs -> {
+                next.addLabel(rs.getLong("labels_id"), rs.getLong("task_count"));
+            });
+            counters = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Reads the counters only, the cost depends on the number of statuses, assignees and labels
+     * but not on the number of tasks.
+     */
+    public TaskStatsDTO getStats() {
+        var current = counters;
+        var byStatus = new HashMap<String, Long>();
+        var byAssignee = new HashMap<Long, Long>();
+        var matrix = new ArrayList<TaskCountDTO>();
+        var total = 0L;
+        for (var entry : current.cells.entrySet()) {
+            var count = entry.getValue().sum();
+            if (count <= 0) {
+                continue;
+            }
+            var cell = entry.getKey();
+            matrix.add(new TaskCountDTO(cell.status(), cell.assigneeId(), null, count));
+            byStatus.merge(cell.status(), count, Long::sum);
+            byAssignee.merge(cell.assigneeId(), count, Long::sum);
+            total += count;
+        }
+
+        var stats = new TaskStatsDTO();
+        stats.setTotal(total);
+        stats.setByStatus(toCounts(byStatus, Comparator.naturalOrder(),
+                (status, count) -> new TaskCountDTO(status, null, null, count)));
+        stats.setByAssignee(toCounts(byAssignee, Comparator.nullsFirst(Comparator.naturalOrder()),
+                (assigneeId, count) -> new TaskCountDTO(null, assigneeId, null, count)));
+        var byLabel = new HashMap<Long, Long>();
+        current.labels.forEach((labelId, adder) -> {
+            var count = adder.sum();
+            if (count > 0) {
+                byLabel.put(labelId, count);
+            }
+        });
+        stats.setByLabel(toCounts(byLabel, Comparator.naturalOrder(),
+                (labelId, count) -> new TaskCountDTO(null, null, labelId, count)));
+        matrix.sort(Comparator.comparing(TaskCountDTO::getStatus)
+                .thenComparing(TaskCountDTO::getAssigneeId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        stats.setByStatusAndAssignee(matrix);
+        stats.setReconciledAt(current.reconciledAt);
+        return stats;
+    }
+
+    private static <K> List<TaskCountDTO> toCounts(Map<K, Long> counts, Comparator<K> order,
+                                                   BiFunction<K, Long, TaskCountDTO> mapper) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(order))
+                .map(entry -> mapper.apply(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private static void apply(Counters target, TaskEvent event) {
+        switch (event.getType()) {
+            case CREATED -> target.add(event.getTask(), event.getLabelIds(), 1);
+            case DELETED -> target.add(event.getTask(), event.getLabelIds(), -1);
+            case UPDATED -> {
+                var previous = event.getPreviousTask();
+                var task = event.getTask();
+                if (Objects.equals(previous.getStatus(), task.getStatus())
+                        && Objects.equals(previous.getAssigneeId(), task.getAssigneeId())
+                        && Objects.equals(event.getPreviousLabelIds(), event.getLabelIds())) {
+                    return;
+                }
+                target.add(previous, event.getPreviousLabelIds(), -1);
+                target.add(task, event.getLabelIds(), 1);
+            }
+            default -> throw new IllegalArgumentException("Unknown event type: " + event.getType());
+        }
+    }
+
+    private record Cell(String status, Long assigneeId) {
+    }
+
+    /**
+     * LongAdder spreads concurrent increments of one counter over cells, so writers to
+     * the same status and assignee do not contend on a single value.
+     */
+    private static final class Counters {
+        private final Map<Cell, LongAdder> cells = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> labels = new ConcurrentHashMap<>();
+        private final Instant reconciledAt;
+
+        private Counters(Instant reconciledAt) {
+            this.reconciledAt = reconciledAt;
+        }
+
+        private void add(TaskDTO task, Set<Long> labelIds, long delta) {
+            if (task.getStatus() != null) {
+                add(new Cell(task.getStatus(), task.getAssigneeId()), delta);
+            }
+            for (var labelId : labelIds) {
+                addLabel(labelId, delta);
+            }
+        }
+
+        private void add(Cell cell, long delta) {
+            cells.computeIfAbsent(cell, key -> new LongAdder()).add(delta);
+        }
+
+        private void addLabel(Long labelId, long delta) {
+            labels.computeIfAbsent(labelId, key -> new LongAdder()).add(delta);
+        }
+    }
+}
@@ -5,9 +5,12 @@ import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusUpdateDTO;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.ChangeLogEntry.Operation;
 import hexlet.code.repository.TaskStatusRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,6 +22,10 @@ public class TaskStatusService {
 
     private final TaskStatusMapper taskStatusMapper;
 
+    private final ChangeFeedService changeFeedService;
+
+    private final OutboxService outboxService;
+
     public List<TaskStatusDTO> getAll() {
         var taskStatuses = taskStatusRepository.findAll();
         return taskStatuses.stream()
@@ -26,10 +33,14 @@ public class TaskStatusService {
                 .toList();
     }
 
+    @Transactional
     public TaskStatusDTO create(TaskStatusCreateDTO taskStatusData) {
         var taskStatus = taskStatusMapper.map(taskStatusData);
         taskStatusRepository.save(taskStatus);
-        return taskStatusMapper.map(taskStatus);
+        changeFeedService.record(EntityType.TASK_STATUS, taskStatus.getId(), Operation.UPSERT);
+        var dto = taskStatusMapper.map(taskStatus);
+        outboxService.append(EntityType.TASK_STATUS, taskStatus.getId(), "created", dto);
+        return dto;
     }
 
     public TaskStatusDTO findById(Long id) {
@@ -38,15 +49,24 @@ public class TaskStatusService {
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Transactional
     public TaskStatusDTO update(TaskStatusUpdateDTO taskStatusData, Long id) {
         var taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("TaskStatus with id %s not found", id)));
         taskStatusMapper.update(taskStatusData, taskStatus);
         taskStatusRepository.save(taskStatus);
-        return taskStatusMapper.map(taskStatus);
+        changeFeedService.record(EntityType.TASK_STATUS, taskStatus.getId(), Operation.UPSERT);
+        var dto = taskStatusMapper.map(taskStatus);
+        outboxService.append(EntityType.TASK_STATUS, taskStatus.getId(), "updated", dto);
+        return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        taskStatusRepository.deleteById(id);
+        taskStatusRepository.findById(id).ifPresent(taskStatus -> {
+            taskStatusRepository.delete(taskStatus);
+            changeFeedService.record(EntityType.TASK_STATUS, id, Operation.DELETE);
+            outboxService.append(EntityType.TASK_STATUS, id, "deleted", taskStatusMapper.map(taskStatus));
+        });
     }
 }
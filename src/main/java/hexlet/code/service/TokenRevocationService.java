@@ -0,0 +1,95 @@
+package hexlet.code.service;
+
+import hexlet.code.component.TokenRevocationProperties;
+import hexlet.code.model.RevokedToken;
+import hexlet.code.repository.RevokedTokenRepository;
+import hexlet.code.util.BloomFilter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+
+/**
+ * Keeps revoked token ids in the database and mirrors them in a Bloom filter,
+ * so validating a token that was never revoked costs no query.
+ * The filter is rebuilt periodically, which drops expired ids and picks up
+ * revocations made by other instances.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final TokenRevocationProperties properties;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter rebuilding;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  TokenRevocationProperties properties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.filter = newFilter();
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsByJti(jti);
+    }
+
+    public void revoke(Jwt token) {
+        revoke(token.getId(), token.getExpiresAt());
+    }
+
+    /**
+     * Revokes the token with the given id. Tokens issued without an id cannot be revoked
+     * and simply run until they expire.
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        if (!revokedTokenRepository.existsByJti(jti)) {
+            var revokedToken = new RevokedToken();
+            revokedToken.setJti(jti);
+            revokedToken.setExpiresAt(expiresAt);
+            try {
+                revokedTokenRepository.save(revokedToken);
+            } catch (DataIntegrityViolationException e) {
+                // revoked concurrently, the row is there either way
+            }
+        }
+
+        filter.put(jti);
+        var next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${token-revocation.refresh-interval:PT1M}")
+    public void refresh() {
+        var now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+
+        var next = newFilter();
+        rebuilding = next;
+        revokedTokenRepository.findActiveJtis(now).forEach(next::put);
+        filter = next;
+        rebuilding = null;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveProbability(),
+                random.nextLong());
+    }
+}
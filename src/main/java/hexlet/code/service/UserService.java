@@ -3,12 +3,18 @@ package hexlet.code.service;
 import hexlet.code.dto.UserCreateDTO;
 import hexlet.code.dto.UserDTO;
 import hexlet.code.dto.UserUpdateDTO;
+import hexlet.code.event.UserChangedEvent;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.UserMapper;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.ChangeLogEntry.Operation;
+import hexlet.code.model.UserPrincipal;
 import hexlet.code.repository.UserRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,6 +28,12 @@ public class UserService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final ChangeFeedService changeFeedService;
+
+    private final OutboxService outboxService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     public List<UserDTO> getAll() {
         var users = userRepository.findAll();
         return users.stream()
@@ -29,12 +41,16 @@ public class UserService {
                 .toList();
     }
 
+    @Transactional
     public UserDTO create(UserCreateDTO userData) {
         var user = userMapper.map(userData);
         var hashedPassword = passwordEncoder.encode(user.getPassword());
         user.setPasswordDigest(hashedPassword);
         userRepository.save(user);
-        return userMapper.map(user);
+        changeFeedService.record(EntityType.USER, user.getId(), Operation.UPSERT);
+        var dto = userMapper.map(user);
+        outboxService.append(EntityType.USER, user.getId(), "created", dto);
+        return dto;
     }
 
     public UserDTO findById(Long id) {
@@ -43,9 +59,11 @@ public class UserService {
         return userMapper.map(user);
     }
 
+    @Transactional
     public UserDTO update(UserUpdateDTO userData, Long id) {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("User with id %s not found", id)));
+        var oldEmail = user.getEmail();
         userMapper.update(userData, user);
 
         if (userData.getPassword() == null) {
@@ -55,11 +73,21 @@ public class UserService {
             user.setPasswordDigest(hashedPassword);
             userRepository.save(user);
         }
+        changeFeedService.record(EntityType.USER, user.getId(), Operation.UPSERT);
+        var dto = userMapper.map(user);
+        outboxService.append(EntityType.USER, user.getId(), "updated", dto);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), oldEmail, UserPrincipal.of(user)));
 
-        return userMapper.map(user);
+        return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            changeFeedService.record(EntityType.USER, id, Operation.DELETE);
+            outboxService.append(EntityType.USER, id, "deleted", userMapper.map(user));
+            eventPublisher.publishEvent(new UserChangedEvent(id, user.getEmail(), null));
+        });
     }
 }
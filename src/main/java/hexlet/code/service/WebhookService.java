@@ -0,0 +1,58 @@
+package hexlet.code.service;
+
+import hexlet.code.component.WebhookDispatcher;
+import hexlet.code.dto.WebhookCreateDTO;
+import hexlet.code.dto.WebhookDTO;
+import hexlet.code.dto.WebhookDeadLetterDTO;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.WebhookMapper;
+import hexlet.code.repository.WebhookDeadLetterRepository;
+import hexlet.code.repository.WebhookDeliveryRepository;
+import hexlet.code.repository.WebhookSubscriptionRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class WebhookService {
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+
+    private final WebhookDeadLetterRepository deadLetterRepository;
+
+    private final WebhookDeliveryRepository deliveryRepository;
+
+    private final WebhookMapper webhookMapper;
+
+    private final WebhookDispatcher webhookDispatcher;
+
+    public List<WebhookDTO> getAll() {
+        return subscriptionRepository.findAll().stream()
+                .map(webhookMapper::map)
+                .toList();
+    }
+
+    public WebhookDTO create(WebhookCreateDTO webhookData) {
+        var subscription = webhookMapper.map(webhookData);
+        subscriptionRepository.save(subscription);
+        webhookDispatcher.reload();
+        return webhookMapper.map(subscription);
+    }
+
+    public void delete(Long id) {
+        subscriptionRepository.deleteById(id);
+        deliveryRepository.deleteBySubscriptionId(id);
+        webhookDispatcher.reload();
+    }
+
+    public List<WebhookDeadLetterDTO> getDeadLetters(Long id) {
+        if (!subscriptionRepository.existsById(id)) {
+            throw new ResourceNotFoundException(String.format("Webhook with id %s not found", id));
+        }
+        return deadLetterRepository.findBySubscriptionIdOrderByIdDesc(id).stream()
+                .map(webhookMapper::map)
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package hexlet.code.specification;
+
+import hexlet.code.dto.TaskParamsDTO;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL counterpart of {@link TaskSpecification} for the reactive read path,
+ * where the JPA criteria API is not available. Expects tasks aliased as {@code t}
+ * and task statuses as {@code s}.
+ */
+@Component
+public class TaskSqlSpecification {
+
+    public Where build(TaskParamsDTO params) {
+        var where = new Where();
+
+        if (params.getAssigneeId() != null) {
+            where.add("t.assignee_id = :assigneeId", "assigneeId", params.getAssigneeId());
+        }
+        if (params.getTitleCont() != null) {
+            where.add("LOWER(t.name) LIKE :titleCont", "titleCont",
+                    "%" + params.getTitleCont().toLowerCase() + "%");
+        }
+        if (params.getStatus() != null) {
+            where.add("s.slug = :status", "status", params.getStatus());
+        }
+        if (params.getLabelId() != null) {
+            where.add("EXISTS (SELECT 1 FROM tasks_labels tl WHERE tl.task_id = t.id AND tl.labels_id = :labelId)",
+                    "labelId", params.getLabelId());
+        }
+
+        return where;
+    }
+
+    @Getter
+    public static final class Where {
+        private final List<String> conditions = new ArrayList<>();
+        private final Map<String, Object> bindings = new LinkedHashMap<>();
+
+        private void add(String condition, String name, Object value) {
+            conditions.add(condition);
+            bindings.put(name, value);
+        }
+
+        public String toSql() {
+            return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package hexlet.code.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Samples items by key, such as requests by endpoint, so that about {@code budgetPerSecond} items
+ * are kept each second whatever the traffic.
+ *
+ * <p>Every second the arrival rate of each key is updated as a moving average, and the budget
+ * is split evenly between the active keys: a key gets the probability {@code share / rate},
+ * capped at 1. A quiet endpoint is therefore kept in full while a busy one is thinned out, and
+ * the probabilities follow the traffic within a few seconds. Keys never seen before are kept
+ * until the next update, and no more than the budget is kept in any second.
+ */
+public final class AdaptiveSampler {
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // Weight of the last second in the moving average of a rate
+    private static final double SMOOTHING = 0.5;
+
+    // Keys slower than this take no share of the budget, and are forgotten once far below it
+    private static final double IDLE_RATE = 0.1;
+
+    private static final double FORGOTTEN_RATE = 0.001;
+
+    private final int budgetPerSecond;
+
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+
+    private final AtomicInteger keptThisSecond = new AtomicInteger();
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private final long origin = System.nanoTime();
+
+    private volatile long second;
+
+    public AdaptiveSampler(int budgetPerSecond) {
+        if (budgetPerSecond < 1) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+        this.budgetPerSecond = budgetPerSecond;
+    }
+
+    public boolean sample(String key) {
+        return sample(key, System.nanoTime() - origin, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param now nanoseconds since the sampler was created
+     * @param roll uniform random number from 0 to 1
+     */
+    boolean sample(String key, long now, double roll) {
+        update(now / SECOND_NANOS);
+        var state = keys.computeIfAbsent(key, k -> new Key());
+        state.arrivals.increment();
+        if (roll >= state.probability) {
+            return false;
+        }
+        return keptThisSecond.incrementAndGet() <= budgetPerSecond;
+    }
+
+    /**
+     * Returns the probability with which the key is currently sampled, 1 for unknown keys.
+     */
+    public double getProbability(String key) {
+        var state = keys.get(key);
+        return state == null ? 1 : state.probability;
+    }
+
+    private void update(long currentSecond) {
+        // One thread updates, the others go on with the previous probabilities
+        if (currentSecond == second || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            var elapsed = currentSecond - second;
+            if (elapsed <= 0) {
+                return;
+            }
+            for (var state : keys.values()) {
+                var lastRate = state.arrivals.sumThenReset() / (double) elapsed;
+                state.rate = SMOOTHING * lastRate + (1 - SMOOTHING) * state.rate;
+            }
+            keys.values().removeIf(state -> state.rate < FORGOTTEN_RATE);
+
+            var active = keys.values().stream().filter(state -> state.rate >= IDLE_RATE).count();
+            var share = budgetPerSecond / (double) Math.max(1, active);
+            for (var state : keys.values()) {
+                state.probability = Math.min(1, share / Math.max(state.rate, IDLE_RATE));
+            }
+            keptThisSecond.set(0);
+            second = currentSecond;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private static final class Key {
+
+        private final LongAdder arrivals = new LongAdder();
+
+        private volatile double rate;
+
+        private volatile double probability = 1;
+    }
+}
@@ -0,0 +1,59 @@
+package hexlet.code.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent Bloom filter for strings. Lookups never lock; inserts set bits with CAS.
+ * A negative answer is exact, a positive one has to be confirmed elsewhere.
+ */
+public final class BloomFilter {
+
+    private static final int MAX_WORDS = Integer.MAX_VALUE / 2;
+
+    private final AtomicLongArray words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final long seed;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability, long seed) {
+        if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+        var ln2 = Math.log(2);
+        var optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        var wordCount = (int) Math.min(MAX_WORDS, Math.max(1, (optimalBits + 63) / 64));
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        this.seed = seed;
+    }
+
+    public void put(String value) {
+        var h1 = Hashing.hash64(value, seed);
+        var h2 = Hashing.mix(h1) | 1;
+        for (var i = 0; i < hashCount; i++) {
+            var bit = Math.floorMod(h1 + i * h2, bitCount);
+            var word = (int) (bit >>> 6);
+            var mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        var h1 = Hashing.hash64(value, seed);
+        var h2 = Hashing.mix(h1) | 1;
+        for (var i = 0; i < hashCount; i++) {
+            var bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
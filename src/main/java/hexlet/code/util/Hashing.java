@@ -0,0 +1,31 @@
+package hexlet.code.util;
+
+public final class Hashing {
+
+    public static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private Hashing() {
+    }
+
+    public static long hash64(String value, long seed) {
+        var h = seed;
+        for (var i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * GOLDEN;
+            h ^= h >>> 32;
+        }
+        return mix(h ^ value.length());
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    public static long mix(long value) {
+        var h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
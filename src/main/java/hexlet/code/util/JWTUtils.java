@@ -8,20 +8,25 @@ import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 
 @Component
 @AllArgsConstructor
 public class JWTUtils {
 
+    public static final String USER_ID_CLAIM = "uid";
+
     private final JwtEncoder encoder;
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .build();
         return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
@@ -0,0 +1,353 @@
+package hexlet.code.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of memory-mapped segment files. An append copies the record into the mapped
+ * segment, the operating system writes it to disk, so records survive a crash of the process
+ * but not of the machine unless {@link #force()} was called.
+ * Each record carries its sequence number and a CRC32C of the payload. On open, the last segment
+ * is scanned and everything after the first damaged record is discarded.
+ * A single {@link Reader} replays the records in order; {@link #checkpoint(long)} remembers how far
+ * it got and deletes segments that hold nothing newer. A segment the reader cannot get through is
+ * renamed with a {@code .bad} suffix and left for inspection.
+ */
+public final class Journal implements Closeable {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private static final String DAMAGED_SUFFIX = ".bad";
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final CRC32C crc = new CRC32C();
+
+    private Segment active;
+
+    /**
+     * Sequence of the last complete record, the first record has sequence 1.
+     */
+    private volatile long lastSequence;
+
+    private volatile long checkpoint;
+
+    private Journal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    public static Journal open(Path directory, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        }
+        Files.createDirectories(directory);
+        var journal = new Journal(directory, segmentSize);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * @return sequence number of the record
+     */
+    public long append(byte[] payload) {
+        if (payload.length == 0 || HEADER_SIZE + payload.length > segmentSize) {
+            throw new IllegalArgumentException("Record size is out of range: " + payload.length);
+        }
+        lock.lock();
+        try {
+            if (active.buffer.remaining() < HEADER_SIZE + payload.length) {
+                rotate();
+            }
+            var sequence = lastSequence + 1;
+            crc.reset();
+            crc.update(payload);
+            active.buffer.putInt(payload.length)
+                    .putInt((int) crc.getValue())
+                    .putLong(sequence)
+                    .put(payload);
+            lastSequence = sequence;
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long append(String payload) {
+        return append(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Sequence of the last record the consumer is done with, 0 if none.
+     */
+    public long getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Stores the checkpoint and deletes the segments whose records are all covered by it.
+     */
+    public void checkpoint(long sequence) throws IOException {
+        var tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(tmp, Long.toString(sequence));
+        Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = sequence;
+
+        for (var first = segments.firstEntry(); first != null; first = segments.firstEntry()) {
+            var next = segments.higherKey(first.getKey());
+            if (next == null || next - 1 > sequence) {
+                break;
+            }
+            segments.remove(first.getKey());
+            Files.deleteIfExists(first.getValue().path);
+        }
+    }
+
+    /**
+     * Reader starting at the record after the checkpoint.
+     */
+    public Reader reader() {
+        return new Reader(checkpoint + 1);
+    }
+
+    /**
+     * Flushes the active segment to disk.
+     */
+    public void force() {
+        lock.lock();
+        try {
+            active.buffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private void recover() throws IOException {
+        var checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        if (Files.exists(checkpointFile)) {
+            checkpoint = Long.parseLong(Files.readString(checkpointFile).trim());
+        }
+
+        try (var files = Files.list(directory)) {
+            for (var path : files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                var name = path.getFileName().toString();
+                var first = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(first, new Segment(first, path, map(path)));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            lastSequence = checkpoint;
+            active = createSegment(checkpoint + 1);
+            return;
+        }
+
+        active = segments.lastEntry().getValue();
+        var buffer = active.buffer;
+        var sequence = active.firstSequence - 1;
+        while (true) {
+            var position = buffer.position();
+            var record = readRecord(buffer, sequence + 1);
+            if (record == null) {
+                if (buffer.remaining() >= Integer.BYTES && buffer.getInt(position) != 0) {
+                    // Zero what a torn write left behind, so it cannot pass for a record later
+                    while (buffer.hasRemaining()) {
+                        buffer.put((byte) 0);
+                    }
+                    buffer.position(position);
+                }
+                break;
+            }
+            sequence++;
+        }
+        lastSequence = sequence;
+    }
+
+    private void rotate() {
+        active.buffer.force();
+        try {
+            active = createSegment(lastSequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Segment createSegment(long firstSequence) throws IOException {
+        var path = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+        var segment = new Segment(firstSequence, path, map(path));
+        segments.put(firstSequence, segment);
+        return segment;
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    /**
+     * Reads the record at the buffer position, leaving the position after it.
+     *
+     * @return payload, or {@code null} at the end of the segment or at a damaged record
+     */
+    private static byte[] readRecord(ByteBuffer buffer, long expectedSequence) {
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        var position = buffer.position();
+        var length = buffer.getInt();
+        var checksum = buffer.getInt();
+        var sequence = buffer.getLong();
+        if (length <= 0 || length > buffer.remaining() || sequence != expectedSequence) {
+            buffer.position(position);
+            return null;
+        }
+        var payload = new byte[length];
+        buffer.get(payload);
+        var actual = new CRC32C();
+        actual.update(payload);
+        if ((int) actual.getValue() != checksum) {
+            buffer.position(position);
+            return null;
+        }
+        return payload;
+    }
+
+    public record Entry(long sequence, byte[] payload) {
+    }
+
+    private record Segment(long firstSequence, Path path, MappedByteBuffer buffer) {
+    }
+
+    /**
+     * Reads records in sequence order, concurrently with appends. Not thread-safe.
+     */
+    public final class Reader {
+        private long nextSequence;
+        private long segmentFirst;
+        private ByteBuffer buffer;
+
+        private Reader(long fromSequence) {
+            this.nextSequence = fromSequence;
+        }
+
+        /**
+         * Records before a damaged one are returned first, the next call throws.
+         *
+         * @return up to {@code max} records, empty when the reader is at the end of the journal
+         * @throws IllegalStateException when the next record is damaged or was deleted, see {@link #skipSegment()}
+         */
+        public List<Entry> read(int max) {
+            var entries = new ArrayList<Entry>();
+            var last = lastSequence;
+            try {
+                while (entries.size() < max && nextSequence <= last) {
+                    if (buffer == null) {
+                        seek();
+                    }
+                    var payload = readRecord(buffer, nextSequence);
+                    if (payload == null) {
+                        if (segmentFirst == nextSequence || !segments.containsKey(nextSequence)) {
+                            throw new IllegalStateException("Journal record " + nextSequence + " is damaged");
+                        }
+                        // The record is in the next segment
+                        buffer = null;
+                        continue;
+                    }
+                    entries.add(new Entry(nextSequence, payload));
+                    nextSequence++;
+                }
+            } catch (IllegalStateException e) {
+                if (entries.isEmpty()) {
+                    throw e;
+                }
+                buffer = null;
+            }
+            return entries;
+        }
+
+        /**
+         * Gives up on the segment holding the next record after {@link #read} failed: renames it with
+         * a {@code .bad} suffix, checkpoints everything before the following segment and continues there.
+         * All records returned so far must have been processed, as the checkpoint covers them.
+         *
+         * @return sequence of the next record to be read
+         */
+        public long skipSegment() throws IOException {
+            long next;
+            lock.lock();
+            try {
+                var entry = segments.floorEntry(nextSequence);
+                if (entry == null) {
+                    // Deleted records, continue with the oldest segment left
+                    next = segments.firstKey();
+                } else {
+                    var damaged = entry.getValue();
+                    if (damaged == active) {
+                        rotate();
+                    }
+                    next = segments.higherKey(damaged.firstSequence());
+                    Files.move(damaged.path(), damaged.path().resolveSibling(damaged.path().getFileName()
+                            + DAMAGED_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+                    segments.remove(damaged.firstSequence());
+                }
+            } finally {
+                lock.unlock();
+            }
+            checkpoint(next - 1);
+            nextSequence = next;
+            buffer = null;
+            return next;
+        }
+
+        private void seek() {
+            var entry = segments.floorEntry(nextSequence);
+            if (entry == null) {
+                throw new IllegalStateException("Journal record " + nextSequence + " was deleted");
+            }
+            segmentFirst = entry.getKey();
+            buffer = entry.getValue().buffer.duplicate().position(0);
+            for (var sequence = entry.getKey(); sequence < nextSequence; sequence++) {
+                if (readRecord(buffer, sequence) == null) {
+                    throw new IllegalStateException("Journal record " + sequence + " is damaged");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package hexlet.code.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic rank keys made of the base-36 digits 0-9 and a-z, compared as plain strings.
+ * Between any two different keys there is always another one, so an item is moved by giving it
+ * a key between its new neighbours and no other item changes. Keys grow by about one digit every
+ * few moves into the same gap; {@link #evenlySpaced(int)} produces short keys again.
+ */
+public final class RankKeys {
+
+    private static final int BASE = 36;
+
+    private RankKeys() {
+    }
+
+    /**
+     * Key between two keys.
+     *
+     * @param lower key to stay above, {@code null} for the start of the list
+     * @param upper key to stay below, {@code null} for the end of the list
+     */
+    public static String between(String lower, String upper) {
+        var low = lower == null ? "" : lower;
+        if (upper != null && low.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException(String.format("No rank key between %s and %s", lower, upper));
+        }
+
+        var key = new StringBuilder();
+        var upperOpen = upper == null;
+        var i = 0;
+        while (true) {
+            var lowDigit = i < low.length() ? digit(low.charAt(i)) : 0;
+            int highDigit;
+            if (upperOpen) {
+                highDigit = BASE;
+            } else if (i < upper.length()) {
+                highDigit = digit(upper.charAt(i));
+            } else {
+                // upper is lower followed by zeros only, e.g. "a" and "a0"
+                throw new IllegalArgumentException(String.format("No rank key between %s and %s", lower, upper));
+            }
+
+            if (highDigit - lowDigit > 1) {
+                // Never ends with 0, otherwise nothing would fit between the key and its prefix
+                return key.append(Character.forDigit((lowDigit + highDigit) / 2, BASE)).toString();
+            }
+            key.append(Character.forDigit(lowDigit, BASE));
+            if (highDigit != lowDigit) {
+                upperOpen = true;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Keys of equal length for {@code count} items, spread evenly so that later moves have room.
+     */
+    public static List<String> evenlySpaced(int count) {
+        var width = 1;
+        var capacity = (long) BASE;
+        while (capacity < (count + 1L) * BASE) {
+            width++;
+            capacity *= BASE;
+        }
+        var step = capacity / (count + 1);
+
+        var keys = new ArrayList<String>(count);
+        for (var i = 1; i <= count; i++) {
+            var digits = Long.toString(i * step, BASE);
+            keys.add("0".repeat(width - digits.length()) + digits);
+        }
+        return keys;
+    }
+
+    private static int digit(char c) {
+        var digit = Character.digit(c, BASE);
+        if (digit < 0 || Character.isUpperCase(c)) {
+            throw new IllegalArgumentException("Invalid rank key character: " + c);
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,181 @@
+package hexlet.code.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded single-producer ring buffer, each handler consuming every entry on its own thread,
+ * in the style of the LMAX Disruptor. Entries are handed over through sequence numbers only,
+ * without locks or per-entry allocation. The producer waits while the slowest handler is a full
+ * ring behind, which is what pushes back on the producer.
+ * A handler spins, yields and parks for up to a millisecond at a time while entries are coming;
+ * once it has been idle for a while it parks until the producer publishes again, so idle handlers
+ * cost nothing.
+ */
+public final class RingBuffer<T> {
+
+    private static final int SPIN_TRIES = 100;
+
+    private static final int YIELD_TRIES = 200;
+
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    // About a second and a half without entries, then a handler waits to be woken by the producer
+    private static final int BLOCK_TRIES = YIELD_TRIES + 2_000;
+
+    private final Object[] entries;
+
+    private final int mask;
+
+    private final AtomicLong published = new AtomicLong(-1);
+
+    private final List<Consumer> consumers = new ArrayList<>();
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public RingBuffer(int capacity, List<Handler<T>> handlers, ThreadFactory threadFactory) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.entries = new Object[capacity];
+        this.mask = capacity - 1;
+        for (var handler : handlers) {
+            var consumer = new Consumer(handler);
+            consumers.add(consumer);
+            threads.add(threadFactory.newThread(consumer));
+        }
+    }
+
+    public void start() {
+        running = true;
+        threads.forEach(Thread::start);
+    }
+
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Only one thread may publish.
+     */
+    public long publish(T entry) throws InterruptedException {
+        var next = published.get() + 1;
+        var wrapPoint = next - entries.length;
+        var idle = 0;
+        while (wrapPoint > getConsumedSequence()) {
+            checkRunning();
+            idle = idle(idle);
+        }
+        entries[(int) (next & mask)] = entry;
+        published.set(next);
+        for (var consumer : consumers) {
+            // Read after the sequence is published, a handler that goes to sleep later sees it
+            if (consumer.sleeping) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+        return next;
+    }
+
+    public long getPublishedSequence() {
+        return published.get();
+    }
+
+    /**
+     * The sequence every handler has processed.
+     */
+    public long getConsumedSequence() {
+        var minimum = published.get();
+        for (var consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    public void awaitConsumed(long sequence) throws InterruptedException {
+        var idle = 0;
+        while (getConsumedSequence() < sequence) {
+            checkRunning();
+            idle = idle(idle);
+        }
+    }
+
+    private void checkRunning() throws InterruptedException {
+        if (!running || Thread.interrupted()) {
+            throw new InterruptedException("Ring buffer stopped");
+        }
+    }
+
+    private static int idle(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L * (idle - YIELD_TRIES + 1)));
+        }
+        return idle + 1;
+    }
+
+    @FunctionalInterface
+    public interface Handler<T> {
+        /**
+         * Expected to deal with its own failures, an exception only skips the entry.
+         */
+        void onEntry(T entry, long sequence);
+    }
+
+    private final class Consumer implements Runnable {
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private final Handler<T> handler;
+        private volatile Thread thread;
+        private volatile boolean sleeping;
+
+        private Consumer(Handler<T> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            thread = Thread.currentThread();
+            var idle = 0;
+            while (running) {
+                var available = published.get();
+                var next = sequence.get() + 1;
+                if (next > available) {
+                    idle = idle < BLOCK_TRIES ? idle(idle) : sleep(next);
+                    continue;
+                }
+                idle = 0;
+                for (; next <= available; next++) {
+                    try {
+                        handler.onEntry((T) entries[(int) (next & mask)], next);
+                    } catch (RuntimeException e) {
+                        // skipped, see Handler
+                    }
+                    sequence.set(next);
+                }
+            }
+        }
+
+        /**
+         * Parks until the producer publishes the entry, or the buffer is stopped.
+         */
+        private int sleep(long next) {
+            sleeping = true;
+            // Checked after announcing the sleep, an entry published before it is not missed
+            if (published.get() < next && running) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+            return BLOCK_TRIES;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package hexlet.code.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape, so that statements differing only in literals,
+ * the length of an IN list or the number of rows of a multi-row insert are counted together.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin \\(\\?(?:, ?\\?)*\\)");
+
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\(\\?(?:, ?\\?)*\\))(?:, ?\\(\\?(?:, ?\\?)*\\))+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        var fingerprint = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (...)");
+        return VALUES_ROWS.matcher(fingerprint).replaceAll("$1, ...");
+    }
+}
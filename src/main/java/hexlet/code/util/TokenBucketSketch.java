@@ -0,0 +1,80 @@
+package hexlet.code.util;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate per-key token buckets kept in a fixed amount of memory.
+ *
+ * <p>Each cell stores a GCRA "theoretical arrival time": the moment at which the bucket
+ * would be full again. A key is hashed into one cell per row, like a count-min sketch.
+ * The least loaded of those cells decides, so hash collisions can only make the limit
+ * stricter, never looser. Acquiring is a handful of array reads and one CAS; no locks
+ * and no allocation.
+ */
+public final class TokenBucketSketch {
+
+    private final AtomicLongArray cells;
+
+    private final int width;
+
+    private final int depth;
+
+    private final long intervalNanos;
+
+    private final long burstNanos;
+
+    private final long seed = new SecureRandom().nextLong();
+
+    private final long origin = System.nanoTime();
+
+    public TokenBucketSketch(int capacity, Duration refillPeriod, int width, int depth) {
+        if (capacity < 1 || depth < 1 || width < 1) {
+            throw new IllegalArgumentException("Capacity, width and depth must be positive");
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.cells = new AtomicLongArray(this.width * depth);
+        this.intervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime() - origin);
+    }
+
+    boolean tryAcquire(String key, long now) {
+        var hash = Hashing.hash64(key, seed);
+
+        while (true) {
+            var minCell = 0;
+            var minTat = Long.MAX_VALUE;
+            for (var row = 0; row < depth; row++) {
+                var cell = cell(hash, row);
+                var tat = cells.get(cell);
+                if (tat < minTat) {
+                    minTat = tat;
+                    minCell = cell;
+                }
+            }
+
+            var next = Math.max(minTat, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+
+            if (cells.compareAndSet(minCell, minTat, next)) {
+                for (var row = 0; row < depth; row++) {
+                    cells.accumulateAndGet(cell(hash, row), next, Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    private int cell(long hash, int row) {
+        var mixed = Hashing.mix(hash + row * Hashing.GOLDEN);
+        return row * width + (int) (mixed & (width - 1));
+    }
+}
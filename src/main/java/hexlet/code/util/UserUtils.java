@@ -1,23 +1,41 @@
 package hexlet.code.util;
 
-import hexlet.code.model.User;
-import hexlet.code.repository.UserRepository;
+import hexlet.code.component.UserPrincipalCache;
+import hexlet.code.model.UserPrincipal;
 import lombok.AllArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 @Component
 @AllArgsConstructor
 public class UserUtils {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public User getCurrentUser() {
+    public UserPrincipal getCurrentUser() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
         var email = authentication.getName();
-        return userRepository.findByEmail(email).orElseThrow();
+        var user = userPrincipalCache.get(email);
+        if (user == null) {
+            throw new IllegalStateException(String.format("User %s not found", email));
+        }
+        return user;
+    }
+
+    /**
+     * Reads the user id from the token claims, without touching the database.
+     * Returns {@code null} for tokens issued before the claim was introduced.
+     */
+    public Long getUserId(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication
+                && jwtAuthentication.getToken().getClaim(JWTUtils.USER_ID_CLAIM) instanceof Number id) {
+            return id.longValue();
+        }
+        return null;
     }
 }
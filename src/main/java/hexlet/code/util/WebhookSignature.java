@@ -0,0 +1,34 @@
+package hexlet.code.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * HMAC-SHA256 over {@code timestamp + "." + body}. Including the timestamp lets receivers
+ * reject replayed deliveries.
+ */
+public final class WebhookSignature {
+
+    public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+    public static final String TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private WebhookSignature() {
+    }
+
+    public static String sign(String secret, long timestamp, String body) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            var digest = mac.doFinal((timestamp + "." + body).getBytes(StandardCharsets.UTF_8));
+            return "sha256=" + HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
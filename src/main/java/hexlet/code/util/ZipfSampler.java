@@ -0,0 +1,37 @@
+package hexlet.code.util;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks ranks from 0 to {@code size - 1} with probability proportional to {@code 1 / (rank + 1)^exponent},
+ * so a few low ranks are drawn most of the time. An exponent of 0 gives a uniform distribution.
+ * Sampling is a binary search over the precomputed cumulative weights.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0 || exponent < 0) {
+            throw new IllegalArgumentException(String.format("Invalid size %s or exponent %s", size, exponent));
+        }
+        cumulative = new double[size];
+        var sum = 0.0;
+        for (var rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        var value = random.nextDouble(cumulative[cumulative.length - 1]);
+        var index = Arrays.binarySearch(cumulative, value);
+        // Not found gives -(insertion point) - 1, the first rank whose cumulative weight exceeds the value
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,197 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.LabelCreateDTO;
+import hexlet.code.event.DomainEvent;
+import hexlet.code.event.DomainEventSubscriber;
+import hexlet.code.model.OutboxDeadLetter;
+import hexlet.code.repository.OutboxDeadLetterRepository;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.service.LabelService;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "outbox.poll-interval=50ms",
+    "outbox.retry-backoff=10ms",
+    "outbox.redelivery-delay=200ms",
+    "outbox.max-deliveries=2"
+})
+public class OutboxDispatcherTest {
+
+    @Autowired
+    private Faker faker;
+
+    @Autowired
+    private LabelService labelService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private CountingSubscriber countingSubscriber;
+
+    @Autowired
+    private OutboxDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        subscriber.failuresLeft.set(0);
+    }
+
+    private Long createLabel() {
+        var data = new LabelCreateDTO();
+        data.setName("outbox-" + faker.lorem().word() + "-" + System.nanoTime());
+        return labelService.create(data).getId();
+    }
+
+    private DomainEvent awaitEvent(String type, Long aggregateId) throws InterruptedException {
+        await(() -> subscriber.find(type, aggregateId) != null);
+        return subscriber.find(type, aggregateId);
+    }
+
+    private Optional<OutboxDeadLetter> findDeadLetter(String type, Long aggregateId) {
+        return deadLetterRepository.findAll().stream()
+                .filter(deadLetter -> deadLetter.getEventType().equals(type)
+                        && deadLetter.getAggregateId().equals(aggregateId))
+                .findFirst();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testDeliversCommittedChanges() throws Exception {
+        var id = createLabel();
+        labelService.delete(id);
+
+        var created = awaitEvent("label.created", id);
+        var deleted = awaitEvent("label.deleted", id);
+
+        assertThat(created).isNotNull();
+        assertThat(created.getPayload()).contains("\"id\":" + id);
+        assertThat(deleted).isNotNull();
+        assertThat(deleted.getId()).isGreaterThan(created.getId());
+
+        await(() -> !outboxEventRepository.existsById(deleted.getId()));
+        assertThat(outboxEventRepository.existsById(created.getId())).isFalse();
+        assertThat(outboxEventRepository.existsById(deleted.getId())).isFalse();
+    }
+
+    @Test
+    public void testRetriesFailingSubscriber() throws Exception {
+        subscriber.failuresLeft.set(2);
+        var id = createLabel();
+
+        assertThat(awaitEvent("label.created", id)).isNotNull();
+
+        labelService.delete(id);
+    }
+
+    @Test
+    public void testRedeliversOnLaterPass() throws Exception {
+        subscriber.failuresLeft.set(3);
+        var id = createLabel();
+
+        var event = awaitEvent("label.created", id);
+        assertThat(event).isNotNull();
+        await(() -> !outboxEventRepository.existsById(event.getId()));
+        assertThat(outboxEventRepository.existsById(event.getId())).isFalse();
+        // Only the failing subscriber gets the event again
+        assertThat(countingSubscriber.count(event.getId())).isEqualTo(1);
+
+        labelService.delete(id);
+    }
+
+    @Test
+    public void testMovesEventToDeadLetters() throws Exception {
+        // Fails every attempt of both passes
+        subscriber.failuresLeft.set(6);
+        var id = createLabel();
+
+        await(() -> findDeadLetter("label.created", id).isPresent());
+        var deadLetter = findDeadLetter("label.created", id).orElseThrow();
+        assertThat(deadLetter.getAttempts()).isEqualTo(2);
+        assertThat(deadLetter.getFailedSubscribers()).isEqualTo(RecordingSubscriber.class.getSimpleName());
+        assertThat(deadLetter.getPayload()).contains("\"id\":" + id);
+        assertThat(outboxEventRepository.existsById(deadLetter.getEventId())).isFalse();
+        assertThat(subscriber.find("label.created", id)).isNull();
+        assertThat(registry.get("outbox.dead_letters").gauge().value()).isGreaterThanOrEqualTo(1);
+
+        deadLetterRepository.delete(deadLetter);
+        labelService.delete(id);
+    }
+
+    @TestConfiguration
+    public static class SubscriberConfig {
+        @Bean
+        public RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+
+        @Bean
+        public CountingSubscriber countingSubscriber() {
+            return new CountingSubscriber();
+        }
+    }
+
+    public static final class CountingSubscriber implements DomainEventSubscriber {
+        private final Map<Long, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            deliveries.computeIfAbsent(event.getId(), id -> new AtomicInteger()).incrementAndGet();
+        }
+
+        private int count(Long eventId) {
+            var count = deliveries.get(eventId);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    public static final class RecordingSubscriber implements DomainEventSubscriber {
+        private final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+
+        @Override
+        public void onEvent(DomainEvent event) throws Exception {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IOException("Receiver unavailable");
+            }
+            events.add(event);
+        }
+
+        private DomainEvent find(String type, Long aggregateId) {
+            return events.stream()
+                    .filter(event -> event.getType().equals(type) && event.getAggregateId().equals(aggregateId))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package hexlet.code.component;
+
+import hexlet.code.util.LocalSentryTransportFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sentry.Sentry;
+import io.sentry.SpanStatus;
+import io.sentry.protocol.SentryId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "trace-sampling.budget-per-second=1",
+    "trace-sampling.slow-threshold=200ms"
+})
+public class SentryTransactionSamplerTest {
+
+    private static final String ROUTE = "GET /api/tasks/{id}";
+
+    private static final int ORDINARY = 50;
+
+    @Autowired
+    private LocalSentryTransportFactory transportFactory;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private SentryId send(String name, SpanStatus status) {
+        var transaction = Sentry.startTransaction(name, "http.server");
+        transaction.setStatus(status);
+        transaction.finish();
+        return transaction.getEventId();
+    }
+
+    private Set<SentryId> getSentIds() {
+        return transportFactory.getEnvelopes().stream()
+                .map(envelope -> envelope.getHeader().getEventId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testErrorsAndSlowTransactionsAreAlwaysSent() throws Exception {
+        // Uses up the budget of the endpoint first
+        for (var i = 0; i < ORDINARY; i++) {
+            send(ROUTE, SpanStatus.OK);
+        }
+
+        var errors = new ArrayList<SentryId>();
+        for (var i = 0; i < 5; i++) {
+            errors.add(send(ROUTE, SpanStatus.INTERNAL_ERROR));
+        }
+
+        var slow = Sentry.startTransaction(ROUTE, "http.server");
+        slow.setStatus(SpanStatus.OK);
+        TimeUnit.MILLISECONDS.sleep(300);
+        slow.finish();
+
+        var sent = getSentIds();
+        assertThat(sent).containsAll(errors);
+        assertThat(sent).contains(slow.getEventId());
+    }
+
+    @Test
+    public void testOrdinaryTransactionsAreSampledWithinBudget() {
+        var started = System.nanoTime();
+        var ids = new ArrayList<SentryId>();
+        for (var i = 0; i < ORDINARY; i++) {
+            ids.add(send(ROUTE, SpanStatus.OK));
+        }
+        var seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started);
+
+        // At most the budget in each second the loop touched
+        var sent = getSentIds();
+        var kept = ids.stream().filter(sent::contains).count();
+        assertThat(kept).isLessThanOrEqualTo(seconds + 2);
+        assertThat(registry.find("sentry.transactions")
+                .tag("endpoint", ROUTE).tag("decision", "dropped")
+                .counter()).isNotNull();
+    }
+
+    @Test
+    public void testUnknownPathsShareOneEndpoint() {
+        var path = "GET /no-such-page/" + UUID.randomUUID();
+        send(path, SpanStatus.NOT_FOUND);
+        send(ROUTE, SpanStatus.OK);
+
+        assertThat(registry.find("sentry.transactions").tag("endpoint", path).counters()).isEmpty();
+        assertThat(registry.find("sentry.transactions").tag("endpoint", "other").counters()).isNotEmpty();
+        assertThat(registry.find("sentry.transactions").tag("endpoint", ROUTE).counters()).isNotEmpty();
+    }
+}
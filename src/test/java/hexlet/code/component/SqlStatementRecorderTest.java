@@ -0,0 +1,85 @@
+package hexlet.code.component;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import hexlet.code.dto.SqlStatementStatsDTO;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatementRecorderTest {
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        var execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+
+    private static SqlStatementRecorder recorder(int maxFingerprints) {
+        return recorder(maxFingerprints, Duration.ofMinutes(1));
+    }
+
+    private static SqlStatementRecorder recorder(int maxFingerprints, Duration slowThreshold) {
+        var properties = new SqlLoggingProperties();
+        properties.setSlowThreshold(slowThreshold);
+        properties.setMaxFingerprints(maxFingerprints);
+        return new SqlStatementRecorder(properties);
+    }
+
+    @Test
+    public void testBatchTimeIsSplit() {
+        var recorder = recorder(100);
+        recorder.afterQuery(execution(31), List.of(
+                new QueryInfo("update tasks set name = 'a' where id = 1"),
+                new QueryInfo("update labels set name = 'b' where id = 2"),
+                new QueryInfo("delete from tasks_labels where task_id = 3")));
+
+        var statements = recorder.getStatements(10);
+        assertThat(statements).hasSize(3);
+        assertThat(statements).allMatch(stats -> stats.getCount() == 1);
+        assertThat(statements.stream().mapToLong(SqlStatementStatsDTO::getTotalMillis).sum()).isEqualTo(31);
+    }
+
+    @Test
+    public void testStatementsAfterFullCacheAreStillFingerprinted() {
+        var recorder = recorder(1);
+        recorder.afterQuery(execution(1), List.of(new QueryInfo("select * from tasks where id = 1")));
+        recorder.afterQuery(execution(1), List.of(new QueryInfo("select * from labels where id = 2")));
+        recorder.afterQuery(execution(1), List.of(new QueryInfo("select * from tasks where id = 3")));
+
+        assertThat(recorder.getStatements(10))
+                .anySatisfy(stats -> {
+                    assertThat(stats.getFingerprint()).isEqualTo("select * from tasks where id = ?");
+                    assertThat(stats.getCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    public void testSlowBatchIsLoggedOnce() {
+        var logger = (Logger) LoggerFactory.getLogger("hexlet.code.sql");
+        var appender = new ListAppender<ILoggingEvent>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            var recorder = recorder(100, Duration.ofMillis(10));
+            recorder.afterQuery(execution(500), IntStream.range(0, 5)
+                    .mapToObj(i -> new QueryInfo("update tasks set index = " + i + " where id = " + i))
+                    .toList());
+
+            assertThat(appender.list).hasSize(1);
+            var message = appender.list.get(0).getFormattedMessage();
+            assertThat(message).contains("elapsed_ms=500", "statements=5", "...");
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+}
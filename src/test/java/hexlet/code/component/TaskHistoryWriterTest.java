@@ -0,0 +1,115 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.event.TaskHistoryEvent;
+import hexlet.code.model.TaskHistoryEntry;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskHistoryService;
+import hexlet.code.service.TaskService;
+import hexlet.code.util.Journal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "journal.enabled=true",
+    "task-history.flush-interval=50ms"
+})
+public class TaskHistoryWriterTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHistoryService taskHistoryService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskHistoryWriter taskHistoryWriter;
+
+    @Autowired
+    private Journal journal;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @DynamicPropertySource
+    public static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        var directory = Files.createTempDirectory("task-history-journal");
+        registry.add("journal.directory", directory::toString);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAllById(taskIds);
+        taskIds.clear();
+    }
+
+    private Long createTask(String title) {
+        var data = new TaskCreateDTO();
+        data.setTitle(title);
+        data.setStatus("draft");
+        var id = taskService.create(data).getId();
+        taskIds.add(id);
+        return id;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testShipsJournalToDatabase() throws Exception {
+        var id = createTask("journal task");
+
+        await(() -> taskHistoryService.getHistory(id, 0, 20).getTotalElements() > 0);
+
+        var history = taskHistoryService.getHistory(id, 0, 20).getContent();
+        assertThat(history).anySatisfy(entry -> {
+            assertThat(entry.getField()).isEqualTo("title");
+            assertThat(entry.getNewValue()).isEqualTo("journal task");
+        });
+        await(() -> taskHistoryWriter.getPendingCount() == 0);
+        assertThat(journal.getCheckpoint()).isEqualTo(journal.getLastSequence());
+    }
+
+    @Test
+    public void testDropsOnlyRejectedEntries() throws Exception {
+        var id = createTask("rejected history task");
+        await(() -> taskHistoryWriter.getPendingCount() == 0);
+
+        // Longer than the column, so the database rejects the batch
+        var rejected = new TaskHistoryEntry(id, "x".repeat(1000), null, "rejected", null, Instant.now());
+        var accepted = new TaskHistoryEntry(id, "content", null, "accepted", null, Instant.now());
+        eventPublisher.publishEvent(new TaskHistoryEvent(List.of(rejected, accepted)));
+
+        await(() -> taskHistoryService.getHistory(id, 0, 20).getContent().stream()
+                .anyMatch(entry -> "accepted".equals(entry.getNewValue())));
+        await(() -> taskHistoryWriter.getPendingCount() == 0);
+
+        assertThat(taskHistoryService.getHistory(id, 0, 20).getContent())
+                .anyMatch(entry -> "accepted".equals(entry.getNewValue()))
+                .noneMatch(entry -> "rejected".equals(entry.getNewValue()));
+        assertThat(taskHistoryWriter.getPendingCount()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package hexlet.code.component;
+
+import hexlet.code.event.UserChangedEvent;
+import hexlet.code.model.UserPrincipal;
+import hexlet.code.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a lookup whose query reads the row before a change commits, and lets the change
+ * reach the cache while the query is still running.
+ */
+public class UserCachesTest {
+
+    private static final long USER_ID = 1L;
+
+    private static final String EMAIL = "user@example.com";
+
+    private static final UserPrincipal OLD = new UserPrincipal(USER_ID, EMAIL, "First", "Last", "old-digest");
+
+    private static final UserPrincipal NEW = new UserPrincipal(USER_ID, EMAIL, "First", "Last", "new-digest");
+
+    private final CountDownLatch loading = new CountDownLatch(1);
+
+    private final CountDownLatch changed = new CountDownLatch(1);
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    /**
+     * A repository whose lookups return the row as it was, after waiting for the change.
+     */
+    private UserRepository slowRepository() {
+        return (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+                    var result = switch (method.getName()) {
+                        case "findPrincipalByEmail" -> Optional.of(OLD);
+                        case "findEmailById" -> Optional.of(EMAIL);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                    queries.incrementAndGet();
+                    loading.countDown();
+                    changed.await(5, TimeUnit.SECONDS);
+                    return result;
+                });
+    }
+
+    private <T> T lookupDuringChange(Supplier<T> lookup, Runnable change) throws Exception {
+        var thread = new Thread(lookup::get);
+        thread.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        change.run();
+        changed.countDown();
+        thread.join();
+        return lookup.get();
+    }
+
+    @Test
+    public void testPasswordChangeDuringLookup() throws Exception {
+        var cache = new UserPrincipalCache(slowRepository());
+
+        var principal = lookupDuringChange(() -> cache.get(EMAIL),
+                () -> cache.onUserChanged(new UserChangedEvent(USER_ID, EMAIL, NEW)));
+
+        assertThat(principal.getPasswordDigest()).isEqualTo("new-digest");
+    }
+
+    @Test
+    public void testDeleteDuringLookup() throws Exception {
+        var cache = new UserPrincipalCache(slowRepository());
+
+        lookupDuringChange(() -> cache.get(EMAIL),
+                () -> cache.onUserChanged(new UserChangedEvent(USER_ID, EMAIL, null)));
+
+        // The row read before the delete was not cached, both lookups went to the repository
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEmailChangeDuringLookup() throws Exception {
+        var cache = new UserEmailCache(slowRepository());
+        var newEmail = "renamed@example.com";
+        var renamed = new UserPrincipal(USER_ID, newEmail, "First", "Last", "old-digest");
+
+        var email = lookupDuringChange(() -> cache.getEmail(USER_ID),
+                () -> cache.onUserChanged(new UserChangedEvent(USER_ID, EMAIL, renamed)));
+
+        assertThat(email).isEqualTo(newEmail);
+    }
+}
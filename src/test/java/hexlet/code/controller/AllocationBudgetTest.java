@@ -0,0 +1,268 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.ChangeFeedService;
+import hexlet.code.service.TaskRankService;
+import hexlet.code.service.TaskStatsService;
+import hexlet.code.util.AllocationMeter;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fails when a request allocates more on the request thread than its budget in
+ * {@code allocation-budgets.properties}, to catch allocation regressions in mappers and services.
+ * Budgets leave generous headroom until they are tightened from measured values. Task lists read
+ * a status column of their own, and the board, stats and change feed reads are pinned to the state
+ * set up before each test, so their cost does not depend on the order the tests run in.
+ */
+@SpringBootTest(properties = "login-rate-limit.enabled=false")
+@AutoConfigureMockMvc
+public class AllocationBudgetTest {
+
+    private static final long BYTES_PER_KB = 1024;
+
+    private static final String TASK_TITLE = "allocation task";
+
+    private static final int COLUMN_SIZE = 10;
+
+    private static final int BOARD_LIMIT = 1;
+
+    private static final Properties BUDGETS = new Properties();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    private User user;
+
+    private TaskStatus taskStatus;
+
+    private TaskStatus draft;
+
+    private Label label;
+
+    private Task testTask;
+
+    private long changesCursor;
+
+    private final List<Task> column = new ArrayList<>();
+
+    @BeforeAll
+    public static void loadBudgets() throws IOException {
+        try (var budgets = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            BUDGETS.load(budgets);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.findByEmail("hexlet@example.com")
+                .orElseThrow(() -> new RuntimeException("User doesn't exist"));
+        draft = taskStatusRepository.findBySlug("draft")
+                .orElseThrow(() -> new RuntimeException("TaskStatus doesn't exist"));
+        label = labelRepository.findByName("feature")
+                .orElseThrow(() -> new RuntimeException("Label doesn't exist"));
+
+        taskStatus = new TaskStatus();
+        taskStatus.setName("Allocation budget");
+        taskStatus.setSlug("allocation_budget");
+        taskStatusRepository.save(taskStatus);
+
+        testTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        testTask.setAssignee(user);
+        testTask.setTaskStatus(taskStatus);
+        testTask.setLabels(Set.of(label));
+        taskRepository.save(testTask);
+        column.add(testTask);
+        for (var i = 0; i < COLUMN_SIZE - 1; i++) {
+            column.add(createTask());
+        }
+        taskRankService.rebalance(taskStatus.getId());
+
+        // Counters and the change feed include what earlier tests wrote, start each test from the database
+        taskStatsService.reconcile();
+        changesCursor = changeFeedService.getChanges(null, null).getLastSeq();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAll(taskRepository.findAll().stream()
+                .filter(task -> TASK_TITLE.equals(task.getName())
+                        || taskStatus.getId().equals(task.getTaskStatus().getId()))
+                .toList());
+        column.clear();
+        taskStatusRepository.delete(taskStatus);
+    }
+
+    private Task createTask() {
+        var task = new Task();
+        task.setName(TASK_TITLE);
+        task.setDescription("Same size for every task of the column");
+        task.setAssignee(user);
+        task.setTaskStatus(taskStatus);
+        task.setLabels(Set.of(label));
+        return taskRepository.save(task);
+    }
+
+    @Test
+    public void testTasks() throws Exception {
+        assertBudget("tasks.show", get("/api/tasks/{id}", testTask.getId()).with(token));
+        assertBudget("tasks.index", get("/api/tasks").param("status", taskStatus.getSlug()).with(token));
+        assertBudget("tasks.index.filtered", get("/api/tasks")
+                .param("status", taskStatus.getSlug())
+                .param("assigneeId", user.getId().toString())
+                .param("labelId", label.getId().toString())
+                .with(token));
+        assertBudget("tasks.history", get("/api/tasks/{id}/history", testTask.getId()).with(token));
+    }
+
+    @Test
+    public void testTaskWrites() throws Exception {
+        // Created in another column, which keeps the fixed one at its size
+        var createData = Map.of(
+                "title", TASK_TITLE,
+                "status", draft.getSlug(),
+                "taskLabelIds", List.of(label.getId()));
+        assertBudget("tasks.create", post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(createData))
+                .with(token));
+
+        var updateData = Map.of(
+                "title", TASK_TITLE,
+                "status", taskStatus.getSlug(),
+                "taskLabelIds", List.of(label.getId()));
+        assertBudget("tasks.update", put("/api/tasks/{id}", testTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(updateData))
+                .with(token));
+
+        // Every run moves the task to the same place, so its key stays the same length
+        var moveData = Map.of("beforeId", column.get(1).getId());
+        assertBudget("tasks.move", post("/api/tasks/{id}/move", testTask.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(moveData))
+                .with(token));
+
+        var taskId = new AtomicLong();
+        assertBudget("tasks.delete",
+                () -> taskId.set(createTask().getId()),
+                () -> delete("/api/tasks/{id}", taskId.get()).with(token));
+    }
+
+    @Test
+    public void testLogin() throws Exception {
+        var data = Map.of(
+                "username", user.getEmail(),
+                "password", "qwerty");
+        assertBudget("login", post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data)));
+    }
+
+    @Test
+    public void testBoardAndReports() throws Exception {
+        assertBudget("board.index", get("/api/board").param("limit", String.valueOf(BOARD_LIMIT)).with(token));
+        assertBudget("board.column", get("/api/board/columns/{statusId}", taskStatus.getId()).with(token));
+        assertBudget("stats.index", get("/api/stats").with(token));
+        assertBudget("analytics.flow", get("/api/analytics/flow").with(token));
+        assertBudget("analytics.cycle-time", get("/api/analytics/cycle-time").with(token));
+        assertBudget("changes.index", get("/api/changes")
+                .param("since", String.valueOf(changesCursor))
+                .param("limit", String.valueOf(COLUMN_SIZE))
+                .with(token));
+    }
+
+    @Test
+    public void testDictionaries() throws Exception {
+        assertBudget("users.show", get("/api/users/{id}", user.getId()).with(token));
+        assertBudget("users.index", get("/api/users").with(token));
+        assertBudget("labels.show", get("/api/labels/{id}", label.getId()).with(token));
+        assertBudget("labels.index", get("/api/labels").with(token));
+        assertBudget("task-statuses.show", get("/api/task_statuses/{id}", taskStatus.getId()).with(token));
+        assertBudget("task-statuses.index", get("/api/task_statuses").with(token));
+        assertBudget("welcome", get("/welcome"));
+    }
+
+    private void assertBudget(String name, RequestBuilder request) throws Exception {
+        assertBudget(name, () -> { }, () -> request);
+    }
+
+    private void assertBudget(String name, AllocationMeter.Action prepare, Supplier<RequestBuilder> request)
+            throws Exception {
+        var budget = BUDGETS.getProperty(name);
+        assertThat(budget).as("Allocation budget of %s", name).isNotNull();
+
+        var allocated = AllocationMeter.measure(prepare,
+                () -> mockMvc.perform(request.get()).andExpect(status().is2xxSuccessful()));
+        var allocatedKb = allocated / BYTES_PER_KB;
+        assertThat(allocatedKb)
+                .as("%s allocated %d KB per request, over its budget of %s KB", name, allocatedKb, budget)
+                .isLessThanOrEqualTo(Long.parseLong(budget));
+    }
+}
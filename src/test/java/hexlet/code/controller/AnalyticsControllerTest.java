@@ -0,0 +1,197 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.AnalyticsAggregator;
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.StatusDailyRollupRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.service.AnalyticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private StatusDailyRollupRepository statusDailyRollupRepository;
+
+    @Autowired
+    private AnalyticsAggregator analyticsAggregator;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    private TaskStatus todo;
+
+    private TaskStatus done;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    private final String today = LocalDate.now(ZoneOffset.UTC).toString();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        todo = createStatus("Analytics todo", "analytics_todo");
+        done = createStatus("Analytics done", "analytics_done");
+
+        var data = new TaskCreateDTO();
+        data.setTitle("analytics task");
+        data.setStatus(todo.getSlug());
+        for (var i = 0; i < 2; i++) {
+            var body = mockMvc.perform(post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(om.writeValueAsString(data))
+                            .with(token))
+                    .andExpect(status().isCreated())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            taskIds.add(om.readTree(body).get("id").asLong());
+        }
+
+        mockMvc.perform(put("/api/tasks/{id}", taskIds.get(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("status", done.getSlug(), "taskLabelIds", List.of())))
+                        .with(token))
+                .andExpect(status().isOk());
+
+        analyticsAggregator.aggregate();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAllById(taskIds);
+        taskIds.clear();
+        statusDailyRollupRepository.deleteAll(statusDailyRollupRepository.findAll().stream()
+                .filter(rollup -> rollup.getStatus().startsWith("analytics_"))
+                .toList());
+        taskStatusRepository.deleteAll(List.of(todo, done));
+    }
+
+    private TaskStatus createStatus(String name, String slug) {
+        var taskStatus = new TaskStatus();
+        taskStatus.setName(name);
+        taskStatus.setSlug(slug);
+        return taskStatusRepository.save(taskStatus);
+    }
+
+    @Test
+    public void testFlow() throws Exception {
+        var body = mockMvc.perform(get("/api/analytics/flow")
+                        .param("from", today)
+                        .param("to", today)
+                        .with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).and(
+                v -> v.node("[0].date").isEqualTo(today),
+                v -> v.node("[0].statuses.analytics_todo").isEqualTo(1),
+                v -> v.node("[0].statuses.analytics_done").isEqualTo(1)
+        );
+    }
+
+    @Test
+    public void testCycleTime() throws Exception {
+        var body = mockMvc.perform(get("/api/analytics/cycle-time")
+                        .param("from", today)
+                        .param("to", today)
+                        .with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var todoTimes = om.readTree(body).findParents("status").stream()
+                .filter(node -> node.get("status").asText().equals("analytics_todo"))
+                .findFirst()
+                .orElseThrow();
+        assertThatJson(todoTimes).and(
+                v -> v.node("exits").isEqualTo(1),
+                v -> v.node("averageSeconds").isNumber(),
+                v -> v.node("maxSeconds").isNumber()
+        );
+    }
+
+    @Test
+    public void testBackfill() throws Exception {
+        // Written around the service, like tasks from before status analytics
+        var task = new Task();
+        task.setName("analytics untracked task");
+        task.setTaskStatus(todo);
+        taskRepository.save(task);
+        taskIds.add(task.getId());
+
+        analyticsService.backfill();
+        analyticsAggregator.aggregate();
+
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatusChangedAt()).isNotNull();
+        var body = mockMvc.perform(get("/api/analytics/flow")
+                        .param("from", today)
+                        .param("to", today)
+                        .with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(body).node("[0].statuses.analytics_todo").isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/flow")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01")
+                        .with(token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testFlowWithoutAuth() throws Exception {
+        mockMvc.perform(get("/api/analytics/flow"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -1,15 +1,21 @@
 package hexlet.code.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.LoginRateLimitProperties;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -23,6 +29,15 @@ public class AuthenticationControllerTest {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private LoginRateLimitProperties rateLimitProperties;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     public void createTest() throws Exception {
         var data = Map.of(
@@ -35,7 +50,14 @@ public class AuthenticationControllerTest {
                 .content(om.writeValueAsString(data));
 
         var result = mockMvc.perform(request)
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var token = jwtDecoder.decode(result.getResponse().getContentAsString());
+        var user = userRepository.findByEmail("hexlet@example.com").orElseThrow();
+
+        assertThat(token.getSubject()).isEqualTo(user.getEmail());
+        assertThat(((Number) token.getClaim(JWTUtils.USER_ID_CLAIM)).longValue()).isEqualTo(user.getId());
     }
 
     @Test
@@ -52,4 +74,54 @@ public class AuthenticationControllerTest {
         var result = mockMvc.perform(request)
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    public void createTestWithTooManyAttempts() throws Exception {
+        var data = Map.of(
+                "username", "brute-force@example.com",
+                "password", "wrong"
+        );
+
+        var request = post("/api/login")
+                .with(r -> {
+                    r.setRemoteAddr("10.0.0.26");
+                    return r;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        for (var i = 0; i < rateLimitProperties.getUsername().getCapacity(); i++) {
+            mockMvc.perform(request)
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(request)
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    public void logoutTest() throws Exception {
+        var data = Map.of(
+                "username", "hexlet@example.com",
+                "password", "qwerty"
+        );
+
+        var loginRequest = post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+        var token = mockMvc.perform(loginRequest)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
 }
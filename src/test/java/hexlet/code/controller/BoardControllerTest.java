@@ -0,0 +1,216 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.TaskMoveDTO;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BoardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    private TaskStatus testStatus;
+
+    private final List<Task> testTasks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        testStatus = new TaskStatus();
+        testStatus.setName("On board");
+        testStatus.setSlug("on_board");
+        taskStatusRepository.save(testStatus);
+
+        testTasks.add(createTask("unranked", null));
+        testTasks.add(createTask("second", "s"));
+        testTasks.add(createTask("first", "f"));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAll(testTasks);
+        testTasks.clear();
+        taskStatusRepository.delete(testStatus);
+    }
+
+    private Task createTask(String name, String rankKey) {
+        var task = new Task();
+        task.setName(name);
+        task.setRankKey(rankKey);
+        task.setTaskStatus(testStatus);
+        return taskRepository.save(task);
+    }
+
+    private String getColumn(String cursor) throws Exception {
+        var request = get("/api/board/columns/{statusId}", testStatus.getId())
+                .param("limit", "2")
+                .with(token);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        var body = mockMvc.perform(get("/api/board").param("limit", "2").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var column = om.readTree(body).findParents("statusId").stream()
+                .filter(node -> node.get("statusId").asLong() == testStatus.getId())
+                .findFirst()
+                .orElseThrow();
+
+        assertThatJson(column).and(
+                v -> v.node("slug").isEqualTo("on_board"),
+                v -> v.node("count").isEqualTo(3),
+                v -> v.node("tasks").isArray().hasSize(2),
+                v -> v.node("tasks[0].title").isEqualTo("first"),
+                v -> v.node("tasks[1].title").isEqualTo("second"),
+                v -> v.node("tasks[1].status").isEqualTo("on_board"),
+                v -> v.node("nextCursor").isString()
+        );
+    }
+
+    @Test
+    public void testColumnPages() throws Exception {
+        var firstPage = getColumn(null);
+        assertThatJson(firstPage).and(
+                v -> v.node("count").isEqualTo(3),
+                v -> v.node("tasks[0].title").isEqualTo("first"),
+                v -> v.node("tasks[1].title").isEqualTo("second")
+        );
+
+        var secondPage = getColumn(om.readTree(firstPage).get("nextCursor").asText());
+        assertThatJson(secondPage).and(
+                v -> v.node("tasks").isArray().hasSize(1),
+                v -> v.node("tasks[0].title").isEqualTo("unranked"),
+                v -> v.node("nextCursor").isAbsent()
+        );
+    }
+
+    private void move(Task task, Task after, Task before) throws Exception {
+        var data = new TaskMoveDTO();
+        data.setAfterId(after == null ? null : after.getId());
+        data.setBeforeId(before == null ? null : before.getId());
+        mockMvc.perform(post("/api/tasks/{id}/move", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data))
+                        .with(token))
+                .andExpect(status().isOk());
+    }
+
+    private List<String> getTitles() throws Exception {
+        var body = mockMvc.perform(get("/api/board/columns/{statusId}", testStatus.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return om.readTree(body).get("tasks").findValuesAsText("title");
+    }
+
+    @Test
+    public void testMoveBetween() throws Exception {
+        var unranked = testTasks.get(0);
+        var second = testTasks.get(1);
+        var first = testTasks.get(2);
+
+        move(unranked, first, second);
+
+        assertThat(getTitles()).containsExactly("first", "unranked", "second");
+        assertThat(taskRepository.findById(second.getId()).orElseThrow().getRankKey()).isEqualTo("s");
+    }
+
+    @Test
+    public void testMoveToEnd() throws Exception {
+        move(testTasks.get(2), null, null);
+
+        assertThat(getTitles()).containsExactly("second", "first", "unranked");
+    }
+
+    @Test
+    public void testMoveNextToUnranked() throws Exception {
+        var unranked = testTasks.get(0);
+        var second = testTasks.get(1);
+        var first = testTasks.get(2);
+
+        // The column is rebalanced first, so that the unranked task gets a key
+        move(first, second, unranked);
+
+        assertThat(getTitles()).containsExactly("second", "first", "unranked");
+        assertThat(taskRepository.findById(unranked.getId()).orElseThrow().getRankKey()).isNotNull();
+    }
+
+    @Test
+    public void testMoveWithUnknownNeighbour() throws Exception {
+        var data = new TaskMoveDTO();
+        data.setBeforeId(Long.MAX_VALUE);
+        mockMvc.perform(post("/api/tasks/{id}/move", testTasks.get(0).getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data))
+                        .with(token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testColumnWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/board/columns/{statusId}", testStatus.getId())
+                        .param("cursor", "not a cursor")
+                        .with(token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testColumnStatusNotFound() throws Exception {
+        mockMvc.perform(get("/api/board/columns/{statusId}", Long.MAX_VALUE).with(token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testIndexWithoutAuth() throws Exception {
+        mockMvc.perform(get("/api/board"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,209 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.ChangeLogEntry.EntityType;
+import hexlet.code.model.ChangeLogEntry.Operation;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.service.ChangeFeedService;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "change-feed.settle-time=0s")
+@AutoConfigureMockMvc
+public class ChangesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Faker faker;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    private long getCursor() throws Exception {
+        var body = mockMvc.perform(get("/api/changes").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return om.readTree(body).get("lastSeq").asLong();
+    }
+
+    private long createLabel(String name) throws Exception {
+        var body = mockMvc.perform(post("/api/labels").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("name", name))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return om.readTree(body).get("id").asLong();
+    }
+
+    @Test
+    public void testIndexSince() throws Exception {
+        var cursor = getCursor();
+
+        var keptId = createLabel("changes-" + faker.lorem().word());
+        var renamed = "renamed-" + faker.lorem().word();
+        mockMvc.perform(put("/api/labels/{id}", keptId).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("name", renamed))))
+                .andExpect(status().isOk());
+
+        var deletedId = createLabel("deleted-" + faker.lorem().word());
+        mockMvc.perform(delete("/api/labels/{id}", deletedId).with(token))
+                .andExpect(status().isNoContent());
+
+        var body = mockMvc.perform(get("/api/changes").param("since", String.valueOf(cursor)).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).and(
+                v -> v.node("hasMore").isEqualTo(false),
+                v -> v.node("changes").isArray().hasSize(2),
+                v -> v.node("changes[0].entity").isEqualTo("label"),
+                v -> v.node("changes[0].id").isEqualTo(keptId),
+                v -> v.node("changes[0].operation").isEqualTo("upsert"),
+                v -> v.node("changes[0].data.name").isEqualTo(renamed),
+                v -> v.node("changes[1].id").isEqualTo(deletedId),
+                v -> v.node("changes[1].operation").isEqualTo("delete"),
+                v -> v.node("changes[1].data").isAbsent()
+        );
+        var tree = om.readTree(body);
+        assertThat(tree.get("lastSeq").asLong()).isEqualTo(tree.get("changes").get(1).get("seq").asLong());
+
+        labelRepository.deleteById(keptId);
+    }
+
+    @Test
+    public void testIndexWithLimit() throws Exception {
+        var cursor = getCursor();
+        var firstId = createLabel("first-" + faker.lorem().word());
+        var secondId = createLabel("second-" + faker.lorem().word());
+
+        var body = mockMvc.perform(get("/api/changes")
+                        .param("since", String.valueOf(cursor))
+                        .param("limit", "1")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).and(
+                v -> v.node("hasMore").isEqualTo(true),
+                v -> v.node("changes").isArray().hasSize(1),
+                v -> v.node("changes[0].id").isEqualTo(firstId)
+        );
+
+        labelRepository.deleteById(firstId);
+        labelRepository.deleteById(secondId);
+    }
+
+    @Test
+    public void testIndexHoldsBackInFlightChanges() throws Exception {
+        var slowId = createLabel("slow-" + faker.lorem().word());
+        var cursor = getCursor();
+
+        var recorded = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var writer = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            changeFeedService.record(EntityType.LABEL, slowId, Operation.UPSERT);
+            recorded.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        writer.start();
+        assertThat(recorded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Commits with a higher sequence number than the transaction still open
+        var fastId = createLabel("fast-" + faker.lorem().word());
+        var body = mockMvc.perform(get("/api/changes").param("since", String.valueOf(cursor)).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(body).node("changes").isArray().isEmpty();
+        assertThat(om.readTree(body).get("lastSeq").asLong()).isEqualTo(cursor);
+        assertThat(getCursor()).isEqualTo(cursor);
+
+        release.countDown();
+        writer.join();
+
+        body = mockMvc.perform(get("/api/changes").param("since", String.valueOf(cursor)).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(body).and(
+                v -> v.node("changes").isArray().hasSize(2),
+                v -> v.node("changes[0].id").isEqualTo(slowId),
+                v -> v.node("changes[1].id").isEqualTo(fastId)
+        );
+
+        labelRepository.deleteById(slowId);
+        labelRepository.deleteById(fastId);
+    }
+
+    @Test
+    public void testIndexAfterPurge() throws Exception {
+        var firstId = createLabel("purged-first-" + faker.lorem().word());
+        var secondId = createLabel("purged-second-" + faker.lorem().word());
+
+        changeFeedService.purgeOlderThan(Instant.now().plusSeconds(60));
+
+        mockMvc.perform(get("/api/changes").param("since", "0").with(token))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(getCursor())).with(token))
+                .andExpect(status().isOk());
+
+        labelRepository.deleteById(firstId);
+        labelRepository.deleteById(secondId);
+    }
+
+    @Test
+    public void testIndexWithoutAuth() throws Exception {
+        mockMvc.perform(get("/api/changes"))
+                .andExpect(status().isUnauthorized());
+    }
+}
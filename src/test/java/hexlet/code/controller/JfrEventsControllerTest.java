@@ -0,0 +1,94 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.FlightRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class JfrEventsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminToken =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    @AfterEach
+    public void cleanUp() throws Exception {
+        update(true);
+    }
+
+    @Test
+    public void testShow() throws Exception {
+        var body = mockMvc.perform(get("/api/admin/jfr/events").with(adminToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).and(
+                v -> v.node("enabled").isEqualTo(true),
+                v -> v.node("events").isArray().contains("hexlet.code.TaskOperation", "hexlet.code.Jwt")
+        );
+    }
+
+    @Test
+    public void testSwitchOff() throws Exception {
+        var body = update(false);
+
+        assertThatJson(body).node("enabled").isEqualTo(false);
+        assertThat(isRegistered("hexlet.code.TaskOperation")).isFalse();
+
+        update(true);
+        assertThat(isRegistered("hexlet.code.TaskOperation")).isTrue();
+    }
+
+    @Test
+    public void testUpdateWithoutFlag() throws Exception {
+        mockMvc.perform(put("/api/admin/jfr/events").with(adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testNotAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/jfr/events").with(jwt().jwt(builder -> builder.subject("user@example.com"))))
+                .andExpect(status().isForbidden());
+    }
+
+    private String update(boolean enabled) throws Exception {
+        return mockMvc.perform(put("/api/admin/jfr/events").with(adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("enabled", enabled))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private static boolean isRegistered(String name) {
+        return FlightRecorder.getFlightRecorder().getEventTypes().stream()
+                .anyMatch(type -> type.getName().equals(name));
+    }
+}
@@ -0,0 +1,54 @@
+package hexlet.code.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testScrape() throws Exception {
+        mockMvc.perform(get("/api/tasks").with(jwt().jwt(builder -> builder.subject("hexlet@example.com"))))
+                .andExpect(status().isOk());
+
+        var body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body).contains(
+                "http_server_requests_seconds_bucket",
+                "service_method_seconds_bucket{class=\"TaskService\"",
+                "hibernate_statements_total",
+                "hikaricp_connections_active",
+                "jvm_memory_used_bytes",
+                "cache_gets_total{cache=\"user_principals\"");
+    }
+
+    @Test
+    public void testHealth() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testMetricsWithoutAuth() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+}
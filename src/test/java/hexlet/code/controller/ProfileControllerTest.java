@@ -0,0 +1,63 @@
+package hexlet.code.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "profiling.enabled=true")
+@AutoConfigureMockMvc
+public class ProfileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminToken =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    @Test
+    public void testCollapsedStacks() throws Exception {
+        var body = mockMvc.perform(get("/api/admin/profile/cpu").param("windows", "5").with(adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Every line is a stack of frames and a count
+        assertThat(body.lines()).allMatch(line -> line.matches("\\S+ \\d+"));
+    }
+
+    @Test
+    public void testWindows() throws Exception {
+        var body = mockMvc.perform(get("/api/admin/profile/windows").with(adminToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).isArray();
+    }
+
+    @Test
+    public void testUnknownType() throws Exception {
+        mockMvc.perform(get("/api/admin/profile/wall").with(adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testNotAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/profile/cpu").with(jwt().jwt(builder -> builder.subject("user@example.com"))))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,163 @@
+package hexlet.code.controller;
+
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.ZoneId;
+import java.util.Set;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactive",
+    "reactive.r2dbc.url=r2dbc:h2:mem:///reactive"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("reactive")
+public class ReactiveTasksControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+
+    private Task testTask;
+
+    @BeforeEach
+    public void setUp() {
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+        var user = userRepository.findByEmail("hexlet@example.com")
+                .orElseThrow(() -> new RuntimeException("User doesn't exist"));
+
+        var taskStatus = taskStatusRepository.findBySlug("draft")
+                .orElseThrow(() -> new RuntimeException("TaskStatus doesn't exist"));
+
+        var label = labelRepository.findByName("feature")
+                .orElseThrow(() -> new RuntimeException("Label doesn't exist"));
+
+        testTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        testTask.setAssignee(user);
+        testTask.setTaskStatus(taskStatus);
+        testTask.setLabels(Set.of(label));
+        taskRepository.save(testTask);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteById(testTask.getId());
+    }
+
+    private MvcResult performAsync(RequestBuilder request) throws Exception {
+        var result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result)).andReturn();
+    }
+
+    @Test
+    public void testShow() throws Exception {
+        var createdAt = java.util.Date.from(testTask.getCreatedAt()
+                .atStartOfDay().atZone(ZoneId.systemDefault()).toInstant());
+
+        var result = performAsync(get("/api/reactive/tasks/{id}", testTask.getId()).with(token));
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+
+        assertThatJson(result.getResponse().getContentAsString()).and(
+                v -> v.node("index").isEqualTo(testTask.getIndex()),
+                v -> v.node("title").isEqualTo(testTask.getName()),
+                v -> v.node("content").isEqualTo(testTask.getDescription()),
+                v -> v.node("status").isEqualTo(testTask.getTaskStatus().getSlug()),
+                v -> v.node("assigneeId").isEqualTo(testTask.getAssignee().getId()),
+                v -> v.node("createdAt").isEqualTo(createdAt)
+        );
+    }
+
+    @Test
+    public void testShowTaskNotFound() throws Exception {
+        var result = performAsync(get("/api/reactive/tasks/{id}", Long.MAX_VALUE).with(token));
+        assertThat(result.getResponse().getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    public void testIndexWithoutAuth() throws Exception {
+        mockMvc.perform(get("/api/reactive/tasks"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testIndexWithFilterParams() throws Exception {
+        var labelId = testTask.getLabels().iterator().next().getId();
+        var result = performAsync(get("/api/reactive/tasks")
+                .param("titleCont", testTask.getName().toUpperCase())
+                .param("assigneeId", String.valueOf(testTask.getAssignee().getId()))
+                .param("status", testTask.getTaskStatus().getSlug())
+                .param("labelId", String.valueOf(labelId))
+                .with(token));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("1");
+        assertThatJson(result.getResponse().getContentAsString()).and(
+                v -> v.isArray().hasSize(1),
+                v -> v.node("[0].id").isEqualTo(testTask.getId())
+        );
+    }
+
+    @Test
+    public void testIndexFilterExcludesOtherStatus() throws Exception {
+        var result = performAsync(get("/api/reactive/tasks")
+                .param("titleCont", testTask.getName())
+                .param("status", "published")
+                .with(token));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThatJson(result.getResponse().getContentAsString()).isArray().isEmpty();
+    }
+
+    @Test
+    public void testTaskStatusesIndex() throws Exception {
+        var result = performAsync(get("/api/reactive/task_statuses").with(token));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getHeader("X-Total-Count"))
+                .isEqualTo(String.valueOf(taskStatusRepository.count()));
+        assertThat(result.getResponse().getContentAsString()).contains("draft");
+    }
+}
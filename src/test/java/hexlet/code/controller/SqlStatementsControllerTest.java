@@ -0,0 +1,55 @@
+package hexlet.code.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SqlStatementsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminToken =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    @Test
+    public void testIndex() throws Exception {
+        mockMvc.perform(delete("/api/admin/sql/statements").with(adminToken))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/task_statuses").with(adminToken))
+                .andExpect(status().isOk());
+
+        var body = mockMvc.perform(get("/api/admin/sql/statements").with(adminToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).isArray().isNotEmpty();
+        assertThat(body).contains("from task_statuses");
+        assertThatJson(body).node("[0]").and(
+                v -> v.node("count").isNumber(),
+                v -> v.node("totalMillis").isNumber(),
+                v -> v.node("maxMillis").isNumber()
+        );
+    }
+
+    @Test
+    public void testNotAdmin() throws Exception {
+        var token = jwt().jwt(builder -> builder.subject("user@example.com"));
+        mockMvc.perform(get("/api/admin/sql/statements").with(token))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,198 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    private TaskStatus todo;
+
+    private TaskStatus done;
+
+    private Label label;
+
+    private User user;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        todo = createStatus("Stats todo", "stats_todo");
+        done = createStatus("Stats done", "stats_done");
+        label = new Label();
+        label.setName("stats label");
+        labelRepository.save(label);
+        user = userRepository.findByEmail("hexlet@example.com").orElseThrow();
+
+        taskStatsService.reconcile();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAllById(taskIds);
+        taskIds.clear();
+        labelRepository.delete(label);
+        taskStatusRepository.deleteAll(List.of(todo, done));
+    }
+
+    private TaskStatus createStatus(String name, String slug) {
+        var taskStatus = new TaskStatus();
+        taskStatus.setName(name);
+        taskStatus.setSlug(slug);
+        return taskStatusRepository.save(taskStatus);
+    }
+
+    private Long createTask() throws Exception {
+        var data = new TaskCreateDTO();
+        data.setTitle("stats task");
+        data.setStatus(todo.getSlug());
+        data.setAssigneeId(user.getId());
+        data.setTaskLabelIds(List.of(label.getId()));
+        var body = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data))
+                        .with(token))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        var id = om.readTree(body).get("id").asLong();
+        taskIds.add(id);
+        return id;
+    }
+
+    private JsonNode getStats() throws Exception {
+        var body = mockMvc.perform(get("/api/stats").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return om.readTree(body);
+    }
+
+    private static long count(JsonNode counts, String field, String value) {
+        for (var count : counts) {
+            if (count.has(field) && count.get(field).asText().equals(value)) {
+                return count.get("count").asLong();
+            }
+        }
+        return 0;
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        createTask();
+        createTask();
+
+        var stats = getStats();
+
+        assertThat(count(stats.get("byStatus"), "status", "stats_todo")).isEqualTo(2);
+        assertThat(count(stats.get("byLabel"), "labelId", label.getId().toString())).isEqualTo(2);
+        assertThat(stats.get("byStatusAndAssignee").findParents("status").stream()
+                .filter(cell -> cell.get("status").asText().equals("stats_todo"))
+                .map(cell -> cell.get("assigneeId").asLong() + ":" + cell.get("count").asLong())
+                .toList())
+                .containsExactly(user.getId() + ":2");
+        assertThat(stats.get("total").asLong()).isGreaterThanOrEqualTo(2);
+        assertThat(stats.get("reconciledAt")).isNotNull();
+    }
+
+    @Test
+    public void testUpdateAndDelete() throws Exception {
+        var id = createTask();
+
+        mockMvc.perform(put("/api/tasks/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("status", done.getSlug(), "taskLabelIds", List.of())))
+                        .with(token))
+                .andExpect(status().isOk());
+
+        var stats = getStats();
+        assertThat(count(stats.get("byStatus"), "status", "stats_todo")).isZero();
+        assertThat(count(stats.get("byStatus"), "status", "stats_done")).isEqualTo(1);
+        assertThat(count(stats.get("byLabel"), "labelId", label.getId().toString())).isZero();
+
+        mockMvc.perform(delete("/api/tasks/{id}", id).with(token))
+                .andExpect(status().isNoContent());
+
+        assertThat(count(getStats().get("byStatus"), "status", "stats_done")).isZero();
+    }
+
+    @Test
+    public void testReconcile() throws Exception {
+        // Written past the service, as another instance would
+        var task = new Task();
+        task.setName("stats task");
+        task.setTaskStatus(todo);
+        taskIds.add(taskRepository.save(task).getId());
+
+        assertThat(count(getStats().get("byStatus"), "status", "stats_todo")).isZero();
+
+        taskStatsService.reconcile();
+
+        assertThat(count(getStats().get("byStatus"), "status", "stats_todo")).isEqualTo(1);
+    }
+
+    @Test
+    public void testIndexWithoutAuth() throws Exception {
+        mockMvc.perform(get("/api/stats"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.ZoneId;
 import java.util.List;
@@ -33,6 +34,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -384,6 +388,43 @@ public class TasksControllerTest {
         assertThat(updatedTask.getTaskStatus().getSlug()).isEqualTo(data.getStatus().get());
     }
 
+    @Test
+    public void testHistory() throws Exception {
+        var previousTitle = testTask.getName();
+        var data = new TaskUpdateDTO();
+        data.setTitle(JsonNullable.of("history-" + faker.lorem().word()));
+        data.setStatus(JsonNullable.of(testTask.getTaskStatus().getSlug()));
+
+        mockMvc.perform(put("/api/tasks/{id}", testTask.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        var body = awaitHistory(testTask.getId(), 1);
+
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).and(
+                v -> v.node("[0].field").isEqualTo("title"),
+                v -> v.node("[0].oldValue").isEqualTo(previousTitle),
+                v -> v.node("[0].newValue").isEqualTo(data.getTitle().get()),
+                v -> v.node("[0].author").isEqualTo("hexlet@example.com")
+        );
+
+        mockMvc.perform(get("/api/tasks/{id}/history", testTask.getId())
+                        .param("page", "1")
+                        .param("size", "1")
+                        .with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    public void testHistoryTaskNotFound() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}/history", Long.MAX_VALUE).with(token))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testUpdateWithoutAuth() throws Exception {
         var data = new TaskUpdateDTO();
@@ -415,4 +456,80 @@ public class TasksControllerTest {
         mockMvc.perform(request)
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    public void testStream() throws Exception {
+        var stream = mockMvc.perform(get("/api/tasks/stream").param("titleCont", "Stream-").with(token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var title = "stream-" + faker.lorem().word();
+        var data = Map.of(
+                "assignee_id", 1L,
+                "title", title,
+                "status", "draft",
+                "taskLabelIds", List.of(1L)
+        );
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isCreated());
+
+        var ignored = Map.of(
+                "assignee_id", 1L,
+                "title", "ignored-" + faker.lorem().word(),
+                "status", "draft",
+                "taskLabelIds", List.of(1L)
+        );
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(ignored)))
+                .andExpect(status().isCreated());
+
+        var update = new TaskUpdateDTO();
+        update.setTitle(JsonNullable.of("stream-" + testTask.getId()));
+        update.setStatus(JsonNullable.of("draft"));
+        mockMvc.perform(put("/api/tasks/{id}", testTask.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        var created = taskRepository.findByName(title).orElseThrow();
+        mockMvc.perform(delete("/api/tasks/{id}", created.getId()).with(token))
+                .andExpect(status().isNoContent());
+
+        var body = awaitContent(stream, "event:deleted");
+        assertThat(body)
+                .contains("event:created", title)
+                .contains("event:updated", "stream-" + testTask.getId())
+                .contains("event:deleted")
+                .doesNotContain("ignored-");
+
+        taskRepository.delete(taskRepository.findByName((String) ignored.get("title")).orElseThrow());
+    }
+
+    private String awaitHistory(Long id, int count) throws Exception {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            var response = mockMvc.perform(get("/api/tasks/{id}/history", id).with(token))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            if (Integer.parseInt(response.getHeader("X-Total-Count")) >= count
+                    || System.currentTimeMillis() > deadline) {
+                return response.getContentAsString();
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        var deadline = System.currentTimeMillis() + 5_000;
+        var body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
 }
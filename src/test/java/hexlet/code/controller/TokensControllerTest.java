@@ -0,0 +1,104 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TokensControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminToken;
+
+    @BeforeEach
+    public void setUp() {
+        adminToken = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+    }
+
+    private String login() throws Exception {
+        var data = Map.of(
+                "username", "hexlet@example.com",
+                "password", "qwerty"
+        );
+        var request = post("/api/login")
+                .with(r -> {
+                    r.setRemoteAddr("10.0.0.29");
+                    return r;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    public void testRevoke() throws Exception {
+        var issuedToken = login();
+        var request = post("/api/admin/tokens/revoke").with(adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("token", issuedToken)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + issuedToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRevokeMalformedToken() throws Exception {
+        var request = post("/api/admin/tokens/revoke").with(adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("token", "not-a-token")));
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testRevokeByNotAdmin() throws Exception {
+        var issuedToken = login();
+        var token = jwt().jwt(builder -> builder.subject("somebody@example.com"));
+        var request = post("/api/admin/tokens/revoke").with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("token", issuedToken)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", "Bearer " + issuedToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testRevokeWithoutAuth() throws Exception {
+        var request = post("/api/admin/tokens/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("token", "not-a-token")));
+
+        mockMvc.perform(request)
+                .andExpect(status().isUnauthorized());
+    }
+}
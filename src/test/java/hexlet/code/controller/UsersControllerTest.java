@@ -1,23 +1,28 @@
 package hexlet.code.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.UserPrincipalCache;
+import hexlet.code.dto.UserUpdateDTO;
 import hexlet.code.model.User;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.UserService;
 import hexlet.code.util.ModelGenerator;
 import net.datafaker.Faker;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.ZoneId;
 import java.util.Map;
@@ -60,6 +65,15 @@ public class UsersControllerTest {
     @Autowired
     private LabelRepository labelRepository;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
     private User testUser;
@@ -263,6 +277,25 @@ public class UsersControllerTest {
         assertThat(updatedUser.getPasswordDigest()).isNotEqualTo(data.get("password"));
     }
 
+    @Test
+    public void testUpdateRolledBack() throws Exception {
+        var oldEmail = testUser.getEmail();
+        var newEmail = faker.internet().emailAddress();
+        var data = new UserUpdateDTO();
+        data.setEmail(JsonNullable.of(newEmail));
+        data.setPassword(JsonNullable.of(faker.internet().password(3, 12)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.update(data, testUser.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(userPrincipalCache.get(newEmail)).isNull();
+        var principal = userPrincipalCache.get(oldEmail);
+        assertThat(principal).isNotNull();
+        assertThat(principal.getPasswordDigest()).isEqualTo(testUser.getPasswordDigest());
+    }
+
     @Test
     public void testPartialUpdate() throws Exception {
         var data = Map.of(
@@ -288,6 +321,39 @@ public class UsersControllerTest {
 
     }
 
+    @Test
+    public void testUpdateByAnotherUser() throws Exception {
+        var data = Map.of(
+                "firstName", faker.name().firstName()
+        );
+
+        var request = put("/api/users/{id}", testUser.getId()).with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isForbidden());
+
+        var user = userRepository.findById(testUser.getId()).orElse(null);
+        assertThat(user).isNotNull();
+        assertThat(user.getFirstName()).isEqualTo(testUser.getFirstName());
+    }
+
+    @Test
+    public void testUpdateUserNotFound() throws Exception {
+        var data = Map.of(
+                "firstName", faker.name().firstName(),
+                "lastName", faker.name().lastName()
+        );
+
+        var request = put("/api/users/{id}", Long.MAX_VALUE).with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testUpdateWithoutAuth() throws Exception {
         var data = Map.of(
@@ -316,6 +382,15 @@ public class UsersControllerTest {
         assertThat(user).isNull();
     }
 
+    @Test
+    public void testDestroyByAnotherUser() throws Exception {
+        var request = delete("/api/users/{id}", testUser.getId()).with(token);
+        mockMvc.perform(request)
+                .andExpect(status().isForbidden());
+
+        assertThat(userRepository.findById(testUser.getId())).isPresent();
+    }
+
     @Test
     public void testDestroyWithoutAuth() throws Exception {
         var request = delete("/api/users/{id}", testUser.getId());
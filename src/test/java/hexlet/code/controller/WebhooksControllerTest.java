@@ -0,0 +1,261 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.WebhookDeliveryRepository;
+import hexlet.code.util.WebhookSignature;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "outbox.poll-interval=50ms",
+    "webhooks.linger=10ms",
+    "webhooks.max-attempts=2",
+    "webhooks.initial-backoff=10ms"
+})
+@AutoConfigureMockMvc
+public class WebhooksControllerTest {
+
+    private static final String SECRET = "0123456789abcdef";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Faker faker;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private WebhookDeliveryRepository deliveryRepository;
+
+    private final SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token =
+            jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+    private final List<Delivery> deliveries = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 204));
+        server.createContext("/fail", exchange -> respond(exchange, 500));
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        var headers = exchange.getRequestHeaders();
+        deliveries.add(new Delivery(exchange.getRequestURI().getPath(), body,
+                headers.getFirst(WebhookSignature.TIMESTAMP_HEADER),
+                headers.getFirst(WebhookSignature.SIGNATURE_HEADER)));
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private long createWebhook(String path) throws Exception {
+        var data = Map.of(
+                "url", url(path),
+                "secret", SECRET,
+                "eventTypes", List.of("task.created")
+        );
+        var body = mockMvc.perform(post("/api/admin/webhooks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return om.readTree(body).get("id").asLong();
+    }
+
+    private String createTask() throws Exception {
+        var title = "webhook-" + faker.lorem().word() + "-" + System.nanoTime();
+        var data = Map.of(
+                "title", title,
+                "status", "draft"
+        );
+        mockMvc.perform(post("/api/tasks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isCreated());
+        return title;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        var id = createWebhook("/ok");
+
+        var body = mockMvc.perform(get("/api/admin/webhooks").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).isArray().anySatisfy(webhook -> assertThatJson(webhook).and(
+                v -> v.node("id").isEqualTo(id),
+                v -> v.node("eventTypes").isArray().containsExactly("task.created"),
+                v -> v.node("secret").isAbsent()
+        ));
+
+        mockMvc.perform(delete("/api/admin/webhooks/{id}", id).with(token))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    public void testCreateWithInvalidData() throws Exception {
+        var data = Map.of(
+                "url", "ftp://example.com",
+                "secret", "short",
+                "eventTypes", List.of("label.created")
+        );
+        mockMvc.perform(post("/api/admin/webhooks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testCreateWithRepeatedEventTypes() throws Exception {
+        var data = Map.of(
+                "url", url("/ok"),
+                "secret", SECRET,
+                "eventTypes", List.of("task.created", "task.created", "task.deleted")
+        );
+        var body = mockMvc.perform(post("/api/admin/webhooks").with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(body).node("eventTypes").isArray().containsExactly("task.created", "task.deleted");
+
+        var title = createTask();
+        await(() -> deliveries.stream().anyMatch(d -> d.body().contains(title)));
+        assertThat(deliveries).anyMatch(d -> d.body().contains(title));
+
+        mockMvc.perform(delete("/api/admin/webhooks/{id}", om.readTree(body).get("id").asLong()).with(token))
+                .andExpect(status().isNoContent());
+        taskRepository.findByName(title).ifPresent(taskRepository::delete);
+    }
+
+    @Test
+    public void testDeliversSignedBatch() throws Exception {
+        var id = createWebhook("/ok");
+        var title = createTask();
+
+        await(() -> deliveries.stream().anyMatch(d -> d.body().contains(title)));
+        var delivery = deliveries.stream()
+                .filter(d -> d.body().contains(title))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(delivery.path()).isEqualTo("/ok");
+        assertThat(delivery.signature())
+                .isEqualTo(WebhookSignature.sign(SECRET, Long.parseLong(delivery.timestamp()), delivery.body()));
+        assertThatJson(delivery.body()).node("events").isArray().anySatisfy(event -> assertThatJson(event).and(
+                v -> v.node("type").isEqualTo("task.created"),
+                v -> v.node("data.title").isEqualTo(title)
+        ));
+        await(() -> deliveryRepository.findPending(id, 0, PageRequest.of(0, 1)).isEmpty());
+        assertThat(deliveryRepository.findPending(id, 0, PageRequest.of(0, 1))).isEmpty();
+
+        mockMvc.perform(delete("/api/admin/webhooks/{id}", id).with(token))
+                .andExpect(status().isNoContent());
+        taskRepository.findByName(title).ifPresent(taskRepository::delete);
+    }
+
+    @Test
+    public void testDeadLettersFailedBatch() throws Exception {
+        var id = createWebhook("/fail");
+        var title = createTask();
+
+        await(() -> deliveries.stream().filter(d -> d.body().contains(title)).count() >= 2);
+        await(() -> {
+            try {
+                return mockMvc.perform(get("/api/admin/webhooks/{id}/dead-letters", id).with(token))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString()
+                        .contains(title);
+            } catch (Exception e) {
+                return false;
+            }
+        });
+
+        var body = mockMvc.perform(get("/api/admin/webhooks/{id}/dead-letters", id).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).and(
+                v -> v.node("[0].attempts").isEqualTo(2),
+                v -> v.node("[0].lastError").isEqualTo("HTTP 500"),
+                v -> v.node("[0].payload").isString().contains(title)
+        );
+
+        mockMvc.perform(delete("/api/admin/webhooks/{id}", id).with(token))
+                .andExpect(status().isNoContent());
+        taskRepository.findByName(title).ifPresent(taskRepository::delete);
+    }
+
+    @Test
+    public void testIndexWithoutAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/webhooks")
+                        .with(jwt().jwt(builder -> builder.subject("someone@example.com"))))
+                .andExpect(status().isForbidden());
+    }
+
+    private record Delivery(String path, String body, String timestamp, String signature) {
+    }
+}
@@ -0,0 +1,70 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class AdaptiveSamplerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testBusyKeyIsThinnedToBudget() {
+        var sampler = new AdaptiveSampler(10);
+        for (var second = 0; second < 6; second++) {
+            var kept = 0;
+            for (var i = 0; i < 1000; i++) {
+                if (sampler.sample("GET /api/tasks", second * SECOND + i * 1000L, random.nextDouble())) {
+                    kept++;
+                }
+            }
+            assertThat(kept).isLessThanOrEqualTo(10);
+        }
+        sampler.sample("GET /api/tasks", 6 * SECOND, random.nextDouble());
+
+        assertThat(sampler.getProbability("GET /api/tasks")).isCloseTo(0.01, within(0.001));
+    }
+
+    @Test
+    public void testBudgetIsSharedBetweenKeys() {
+        var sampler = new AdaptiveSampler(10);
+        for (var second = 0; second < 6; second++) {
+            for (var i = 0; i < 1000; i++) {
+                sampler.sample("GET /api/tasks", second * SECOND + i * 1000L, random.nextDouble());
+            }
+            for (var i = 0; i < 2; i++) {
+                sampler.sample("GET /api/board", second * SECOND + i * 1000L, random.nextDouble());
+            }
+        }
+        sampler.sample("GET /api/tasks", 6 * SECOND, random.nextDouble());
+
+        assertThat(sampler.getProbability("GET /api/board")).isEqualTo(1);
+        assertThat(sampler.getProbability("GET /api/tasks")).isCloseTo(0.005, within(0.001));
+    }
+
+    @Test
+    public void testNewKeyIsCappedByBudget() {
+        var sampler = new AdaptiveSampler(10);
+        var kept = 0;
+        for (var i = 0; i < 100; i++) {
+            if (sampler.sample("POST /api/tasks", i, 0)) {
+                kept++;
+            }
+        }
+
+        assertThat(kept).isEqualTo(10);
+        assertThat(sampler.getProbability("GET /api/unknown")).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidBudget() {
+        assertThatThrownBy(() -> new AdaptiveSampler(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
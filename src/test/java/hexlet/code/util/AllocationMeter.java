@@ -0,0 +1,56 @@
+package hexlet.code.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the bytes a piece of code allocates on the current thread, from the JVM's per-thread
+ * allocation counter. Allocations of other threads, such as async listeners, are not counted.
+ * The code runs a number of times first so that class loading and caches settle, then the median
+ * of the measured runs is reported.
+ */
+public final class AllocationMeter {
+
+    private static final int WARMUP_RUNS = 20;
+
+    private static final int MEASURED_RUNS = 15;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static long measure(Action action) throws Exception {
+        return measure(() -> { }, action);
+    }
+
+    /**
+     * Runs {@code prepare} before every run of {@code action}, without counting what it allocates.
+     */
+    public static long measure(Action prepare, Action action) throws Exception {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("The JVM does not count allocated bytes per thread");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        for (var i = 0; i < WARMUP_RUNS; i++) {
+            prepare.run();
+            action.run();
+        }
+        var allocated = new long[MEASURED_RUNS];
+        for (var i = 0; i < MEASURED_RUNS; i++) {
+            prepare.run();
+            var before = THREADS.getCurrentThreadAllocatedBytes();
+            action.run();
+            allocated[i] = THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+        Arrays.sort(allocated);
+        return allocated[MEASURED_RUNS / 2];
+    }
+}
@@ -0,0 +1,121 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    private Path directory;
+
+    private static List<String> payloads(List<Journal.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new String(entry.payload(), StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private long segmentCount() throws Exception {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).count();
+        }
+    }
+
+    @Test
+    public void testAppendAndRead() throws Exception {
+        var journal = Journal.open(directory, SEGMENT_SIZE);
+        assertThat(journal.append("first")).isEqualTo(1);
+        assertThat(journal.append("second")).isEqualTo(2);
+
+        var reader = journal.reader();
+        assertThat(payloads(reader.read(10))).containsExactly("first", "second");
+        assertThat(reader.read(10)).isEmpty();
+
+        journal.append("third");
+        assertThat(payloads(reader.read(10))).containsExactly("third");
+    }
+
+    @Test
+    public void testRotatesAndDeletesShippedSegments() throws Exception {
+        var journal = Journal.open(directory, SEGMENT_SIZE);
+        for (var i = 0; i < 20; i++) {
+            journal.append("record-" + i);
+        }
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        var entries = journal.reader().read(100);
+        assertThat(entries).hasSize(20);
+        assertThat(entries.get(19).sequence()).isEqualTo(20);
+
+        journal.checkpoint(20);
+        assertThat(segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testReplaysFromCheckpointAfterReopen() throws Exception {
+        var journal = Journal.open(directory, SEGMENT_SIZE);
+        journal.append("shipped");
+        journal.append("pending");
+        journal.checkpoint(1);
+        journal.close();
+
+        var reopened = Journal.open(directory, SEGMENT_SIZE);
+        assertThat(reopened.getLastSequence()).isEqualTo(2);
+        assertThat(payloads(reopened.reader().read(10))).containsExactly("pending");
+        assertThat(reopened.append("next")).isEqualTo(3);
+    }
+
+    @Test
+    public void testDropsTornRecordOnReopen() throws Exception {
+        var journal = Journal.open(directory, SEGMENT_SIZE);
+        journal.append("complete");
+        journal.append("torn");
+        journal.close();
+
+        // Corrupt the payload of the second record, which starts after the 16 byte header and "complete"
+        try (var file = new RandomAccessFile(directory.resolve(String.format("%020d.journal", 1)).toFile(), "rw")) {
+            file.seek(16 + "complete".length() + 16);
+            file.write('X');
+        }
+
+        var reopened = Journal.open(directory, SEGMENT_SIZE);
+        assertThat(reopened.getLastSequence()).isEqualTo(1);
+        assertThat(reopened.append("replacement")).isEqualTo(2);
+        assertThat(payloads(reopened.reader().read(10))).containsExactly("complete", "replacement");
+    }
+
+    @Test
+    public void testSkipsDamagedSegment() throws Exception {
+        var journal = Journal.open(directory, SEGMENT_SIZE);
+        // 24 bytes each, so ten records to a segment
+        for (var i = 0; i < 20; i++) {
+            journal.append("record-" + i);
+        }
+        var first = directory.resolve(String.format("%020d.journal", 1));
+        try (var file = new RandomAccessFile(first.toFile(), "rw")) {
+            file.seek(16 + "record-0".length() + 16);
+            file.write('X');
+        }
+
+        var reader = journal.reader();
+        assertThat(payloads(reader.read(100))).containsExactly("record-0");
+        assertThatThrownBy(() -> reader.read(100)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(reader.skipSegment()).isEqualTo(11);
+        assertThat(journal.getCheckpoint()).isEqualTo(10);
+        assertThat(first).doesNotExist();
+        assertThat(first.resolveSibling(first.getFileName() + ".bad")).exists();
+        assertThat(reader.read(100)).hasSize(10).first()
+                .satisfies(entry -> assertThat(entry.sequence()).isEqualTo(11));
+    }
+}
@@ -0,0 +1,57 @@
+package hexlet.code.util;
+
+import io.sentry.Hint;
+import io.sentry.ITransportFactory;
+import io.sentry.RequestDetails;
+import io.sentry.SentryEnvelope;
+import io.sentry.SentryOptions;
+import io.sentry.transport.ITransport;
+import io.sentry.transport.RateLimiter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Stand-in Sentry transport for tests: envelopes are kept in memory instead of being sent,
+ * so the suite never reaches sentry.io and tests can look at what would have been sent.
+ */
+@Component
+public class LocalSentryTransportFactory implements ITransportFactory {
+
+    private static final int MAX_ENVELOPES = 1000;
+
+    private final ConcurrentLinkedDeque<SentryEnvelope> envelopes = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public ITransport create(SentryOptions options, RequestDetails requestDetails) {
+        return new LocalTransport();
+    }
+
+    public List<SentryEnvelope> getEnvelopes() {
+        return List.copyOf(envelopes);
+    }
+
+    private final class LocalTransport implements ITransport {
+
+        @Override
+        public void send(SentryEnvelope envelope, Hint hint) {
+            envelopes.add(envelope);
+            while (envelopes.size() > MAX_ENVELOPES) {
+                envelopes.pollFirst();
+            }
+        }
+
+        @Override
+        public void flush(long timeoutMillis) {
+        }
+
+        public RateLimiter getRateLimiter() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RankKeysTest {
+
+    @Test
+    public void testBetween() {
+        assertThat(RankKeys.between(null, null)).isEqualTo("i");
+        assertThat(RankKeys.between("f", "s")).isEqualTo("l");
+        assertThat(RankKeys.between("a", "b")).isEqualTo("ai");
+        assertThat(RankKeys.between("a", "a1")).isEqualTo("a0i");
+        assertThat(RankKeys.between("s", null)).isEqualTo("w");
+    }
+
+    @Test
+    public void testRepeatedMovesIntoOneGap() {
+        var lower = "a";
+        var upper = "b";
+        for (var i = 0; i < 100; i++) {
+            var key = RankKeys.between(lower, upper);
+            assertThat(key).isGreaterThan(lower).isLessThan(upper);
+            upper = key;
+        }
+        for (var i = 0; i < 100; i++) {
+            var key = RankKeys.between(lower, upper);
+            assertThat(key).isGreaterThan(lower).isLessThan(upper);
+            lower = key;
+        }
+    }
+
+    @Test
+    public void testNoKeyBetween() {
+        assertThatThrownBy(() -> RankKeys.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.between("a", "a0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.between("A", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testEvenlySpaced() {
+        var keys = RankKeys.evenlySpaced(1000);
+
+        assertThat(keys).hasSize(1000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSize(keys.get(0).length()));
+        var gaps = new ArrayList<String>();
+        for (var i = 1; i < keys.size(); i++) {
+            gaps.add(RankKeys.between(keys.get(i - 1), keys.get(i)));
+        }
+        assertThat(gaps).hasSize(999);
+        assertThat(RankKeys.evenlySpaced(0)).isEmpty();
+    }
+}
@@ -0,0 +1,41 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlFingerprintTest {
+
+    @Test
+    public void testLiterals() {
+        assertThat(SqlFingerprint.of("select * from tasks where id = 42 and name = 'it''s'"))
+                .isEqualTo("select * from tasks where id = ? and name = ?");
+    }
+
+    @Test
+    public void testIdentifiersWithDigitsAreKept() {
+        assertThat(SqlFingerprint.of("select t1_0.id from tasks t1_0 where t1_0.index > 10"))
+                .isEqualTo("select t1_0.id from tasks t1_0 where t1_0.index > ?");
+    }
+
+    @Test
+    public void testWhitespace() {
+        assertThat(SqlFingerprint.of("  select id\n   from users\twhere email = ?  "))
+                .isEqualTo("select id from users where email = ?");
+    }
+
+    @Test
+    public void testInLists() {
+        assertThat(SqlFingerprint.of("select * from labels where id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.of("select * from labels where id in (?)"))
+                .isEqualTo("select * from labels where id in (...)");
+    }
+
+    @Test
+    public void testMultiRowInserts() {
+        assertThat(SqlFingerprint.of("insert into tasks_labels (task_id, labels_id) values (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo("insert into tasks_labels (task_id, labels_id) values (?, ?), ...");
+        assertThat(SqlFingerprint.of("insert into labels (name, created_at) values (?, ?)"))
+                .isEqualTo("insert into labels (name, created_at) values (?, ?)");
+    }
+}
@@ -0,0 +1,55 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ZipfSamplerTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void testSkew() {
+        var sampler = new ZipfSampler(100, 1.0);
+        var counts = count(sampler);
+
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[1]).isGreaterThan(counts[9]);
+        assertThat(counts[9]).isGreaterThan(counts[99]);
+        // Rank 1 has weight 1 of H(100) ~ 5.19
+        assertThat(counts[0] / (double) SAMPLES).isBetween(0.18, 0.21);
+    }
+
+    @Test
+    public void testUniform() {
+        var sampler = new ZipfSampler(4, 0);
+        for (var count : count(sampler)) {
+            assertThat(count / (double) SAMPLES).isBetween(0.24, 0.26);
+        }
+    }
+
+    @Test
+    public void testSingleRank() {
+        var sampler = new ZipfSampler(1, 2.0);
+        assertThat(sampler.sample(new Random())).isZero();
+        assertThat(sampler.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfSampler(10, -1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[] count(ZipfSampler sampler) {
+        var random = new Random(42);
+        var counts = new int[sampler.size()];
+        for (var i = 0; i < SAMPLES; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        return counts;
+    }
+}